@@ -20,6 +20,8 @@ dependencies {
     // JUnit Jupiter
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.10.0")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.10.0")
+    // Gradle 9부터 테스트 런처를 직접 선언해야 한다
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher:1.10.0")
 
 
 }
@@ -29,4 +31,14 @@ tasks.test {
 }
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
-}
\ No newline at end of file
+}
+// 벌크헤드 격리 벤치마크 (테스트에는 포함되지 않음): gradle bulkheadBenchmark [-Pbench.users=50000 ...]
+tasks.register<JavaExec>("bulkheadBenchmark") {
+    group = "verification"
+    description = "Measures GET /users/{id} latency under full-scan load with and without the search bulkhead"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("com.winter.winterboot.bulkhead.BulkheadIsolationBenchmark")
+    systemProperty("bench.serverClasspath", sourceSets["main"].runtimeClasspath.asPath)
+    listOf("bench.users", "bench.scanners", "bench.lookupClients", "bench.lookups", "bench.port", "server.threads")
+        .forEach { key -> project.findProperty(key)?.let { systemProperty(key, it) } }
+}
@@ -4,7 +4,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.winter.winterboot.annotation.*;
+import com.winter.winterboot.bulkhead.BulkheadExecutor;
+import com.winter.winterboot.coalesce.SingleFlight;
 import com.winter.winterboot.core.ApplicationContext;
+import com.winter.winterboot.core.aot.StartupSnapshot;
+import com.winter.winterboot.core.env.Environment;
+import com.winter.winterboot.core.jfr.RequestEvent;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+import com.winter.winterboot.deadline.Deadline;
+import com.winter.winterboot.deadline.DeadlineExceededException;
+import com.winter.winterboot.deadline.DeadlineTimer;
+import com.winter.winterboot.trace.Phase;
+import com.winter.winterboot.trace.RequestTrace;
+import com.winter.winterboot.trace.RequestTracer;
+import com.winter.winterboot.warmup.SyntheticExchange;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -15,22 +29,47 @@ import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class DispatcherHandler implements HttpHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(DispatcherHandler.class);
+
     private final ApplicationContext context;
 
     private final Map<String, Map<String, MethodInfo>> handlerMapping = new HashMap<>();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RequestTracer tracer;
+    private final SingleFlight<String, byte[]> singleFlight;
+    private final Environment env;
+    private final Map<String, BulkheadExecutor> bulkheads = new LinkedHashMap<>();
+    private final DeadlineTimer deadlineTimer = new DeadlineTimer();
+    private final boolean honorTimeoutHeader;
 
     public DispatcherHandler(ApplicationContext context) {
+        this(context, null);
+    }
+
+    public DispatcherHandler(ApplicationContext context, Environment env) {
         this.context = context;
+        this.env = env;
+        this.tracer = (env != null) ? RequestTracer.from(env) : null;
+        this.singleFlight = new SingleFlight<>((env != null) ? env.getInt("winter.coalesce.timeout-ms", 5000) : 5000);
+        this.honorTimeoutHeader = (env == null) || env.getBool("winter.timeout.honor-header", true);
         initHandlerMapping();
     }
 
     private void initHandlerMapping() {
+        StartupSnapshot snapshot = context.getStartupSnapshot();
+        if (snapshot != null && snapshot.isHit()) {
+            if (restoreHandlerMapping(snapshot)) {
+                return;
+            }
+            snapshot.discard();
+        }
+
         for (Object bean : context.getBeans().values()) {
             Class<?> beanClass = bean.getClass();
             boolean isController = beanClass.isAnnotationPresent(Controller.class);
@@ -51,30 +90,269 @@ public class DispatcherHandler implements HttpHandler {
                     if (path != null && httpMethod != null) {
                         handlerMapping
                                 .computeIfAbsent(path, k -> new HashMap<>())
-                                .put(httpMethod, new MethodInfo(bean, method, isRestController, path)); // ← path 저장!
-                        System.out.printf("Mapped [%s] %s to %s%n", httpMethod, path, method.getName());
+                                .put(httpMethod, newMethodInfo(bean, method, isRestController, path, httpMethod)); // ← path 저장!
+                        log.info("Mapped [%s] %s to %s", httpMethod, path, method.getName());
+                        if (snapshot != null) {
+                            snapshot.recordRoute(httpMethod, path, beanClass, method.getName(), method.getParameterTypes());
+                        }
                     }
                 }
             }
         }
     }
 
+    // 스냅샷의 라우팅 테이블로 매핑 복원: 컨트롤러 메서드 전체를 훑지 않고 시그니처로 바로 찾는다
+    private boolean restoreHandlerMapping(StartupSnapshot snapshot) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        try {
+            for (StartupSnapshot.Route route : snapshot.getRoutes()) {
+                Class<?> beanClass = Class.forName(route.beanClass(), false, cl);
+                Object bean = context.getBeans().get(beanClass);
+                if (bean == null) {
+                    throw new ReflectiveOperationException("빈 없음: " + route.beanClass());
+                }
+                Class<?>[] paramTypes = new Class<?>[route.parameterTypes().size()];
+                for (int i = 0; i < paramTypes.length; i++) {
+                    paramTypes[i] = loadType(route.parameterTypes().get(i), cl);
+                }
+                Method method = beanClass.getDeclaredMethod(route.methodName(), paramTypes);
+                boolean isRestController = beanClass.isAnnotationPresent(RestController.class);
+                handlerMapping
+                        .computeIfAbsent(route.path(), k -> new HashMap<>())
+                        .put(route.httpMethod(), newMethodInfo(bean, method, isRestController, route.path(), route.httpMethod()));
+            }
+            log.info("Mapped %d routes from startup snapshot", snapshot.getRoutes().size());
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Route snapshot replay failed, falling back to reflection: " + e);
+            handlerMapping.clear();
+            return false;
+        }
+    }
+
+    private MethodInfo newMethodInfo(Object bean, Method method, boolean isRestController, String path, String httpMethod) {
+        BulkheadExecutor bulkhead = resolveBulkhead(method);
+        int priority = resolvePriority(method);
+        return new MethodInfo(bean, method, isRestController, path, isCoalescable(method, httpMethod), bulkhead, priority,
+                resolveTimeout(method));
+    }
+
+    // winter.timeout.route.<Controller>.<method> > @Timeout > winter.timeout.default-ms. 0이면 제한 없음
+    private long resolveTimeout(Method method) {
+        String key = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        Timeout annotation = method.getAnnotation(Timeout.class);
+        String def = (annotation != null) ? String.valueOf(annotation.value()) : property("winter.timeout.default-ms", "0");
+        return Long.parseLong(property("winter.timeout.route." + key, def));
+    }
+
+    // 클라이언트는 X-Request-Timeout(ms)으로 제한 시간을 줄일 수만 있다
+    private long effectiveTimeout(HttpExchange exchange, MethodInfo methodInfo) {
+        long timeout = methodInfo.getTimeoutMillis();
+        String header = honorTimeoutHeader ? exchange.getRequestHeaders().getFirst("X-Request-Timeout") : null;
+        if (header != null) {
+            try {
+                long requested = Long.parseLong(header.trim());
+                if (requested > 0 && (timeout <= 0 || requested < timeout)) timeout = requested;
+            } catch (NumberFormatException ignored) {
+                // 잘못된 헤더는 무시하고 서버 설정을 따른다
+            }
+        }
+        return timeout;
+    }
+
+    // @Bulkhead 또는 winter.bulkhead.assign.<Controller>.<method>=<pool> 로 지정된 풀. 없으면 서버 스레드에서 바로 실행
+    private BulkheadExecutor resolveBulkhead(Method method) {
+        String key = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        Bulkhead annotation = method.getAnnotation(Bulkhead.class);
+        String name = property("winter.bulkhead.assign." + key, annotation != null ? annotation.value() : null);
+        if (name == null || name.isBlank()) return null;
+        return bulkheads.computeIfAbsent(name, n -> {
+            int maxConcurrency = Integer.parseInt(property("winter.bulkhead." + n + ".max-concurrency", "4"));
+            int queueCapacity = Integer.parseInt(property("winter.bulkhead." + n + ".queue-capacity", "100"));
+            log.info("Bulkhead '%s' created (max-concurrency=%d, queue-capacity=%d)", n, maxConcurrency, queueCapacity);
+            return new BulkheadExecutor(n, maxConcurrency, queueCapacity);
+        });
+    }
+
+    private int resolvePriority(Method method) {
+        String key = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        Bulkhead annotation = method.getAnnotation(Bulkhead.class);
+        return Integer.parseInt(property("winter.bulkhead.priority." + key,
+                String.valueOf(annotation != null ? annotation.priority() : 0)));
+    }
+
+    private String property(String key, String def) {
+        return (env != null) ? env.get(key, def) : def;
+    }
+
+    // @Coalesce는 GET이면서 인자가 경로/쿼리에서만 오는 핸들러에만 적용 (요청 본문, HttpExchange 주입은 공유 불가)
+    private static boolean isCoalescable(Method method, String httpMethod) {
+        if (!method.isAnnotationPresent(Coalesce.class)) return false;
+        boolean argsFromUrlOnly = Arrays.stream(method.getParameters())
+                .allMatch(p -> p.isAnnotationPresent(PathVariable.class) || p.isAnnotationPresent(RequestParam.class));
+        if (!"GET".equals(httpMethod) || !argsFromUrlOnly) {
+            log.warn("Ignoring @Coalesce on %s: only GET handlers bound from path/query can be coalesced",
+                    method.getName());
+            return false;
+        }
+        return true;
+    }
+
+    public RequestTracer getTracer() { return tracer; }
+
+    public SingleFlight<String, byte[]> getSingleFlight() { return singleFlight; }
+
+    public Collection<BulkheadExecutor> getBulkheads() { return bulkheads.values(); }
+
+    public DeadlineTimer getDeadlineTimer() { return deadlineTimer; }
+
+    /** 제한 시간이 걸린 라우트가 하나라도 있는지 (@Timeout, 라우트 프로퍼티 또는 winter.timeout.default-ms) */
+    public boolean hasTimeouts() {
+        return handlerMapping.values().stream()
+                .flatMap(byMethod -> byMethod.values().stream())
+                .anyMatch(info -> info.getTimeoutMillis() > 0);
+    }
+
+    /** 제한 시간/벌크헤드/병합 집계를 0으로 되돌린다. 워밍업의 합성 요청이 운영 지표에 남지 않게 포트를 열기 전에 호출한다 */
+    public void resetStats() {
+        deadlineTimer.resetStats();
+        bulkheads.values().forEach(BulkheadExecutor::resetStats);
+        singleFlight.resetStats();
+    }
+
+    /** 매핑된 라우트 목록 (워밍업 등에서 사용) */
+    public List<Route> getRoutes() {
+        List<Route> routes = new ArrayList<>();
+        handlerMapping.forEach((path, byMethod) ->
+                byMethod.forEach((httpMethod, info) -> routes.add(new Route(httpMethod, path, info.getMethod()))));
+        return routes;
+    }
+
+    public record Route(String httpMethod, String path, Method method) { }
+
+    private static Class<?> loadType(String name, ClassLoader cl) throws ClassNotFoundException {
+        return switch (name) {
+            case "int" -> int.class;
+            case "long" -> long.class;
+            case "boolean" -> boolean.class;
+            case "double" -> double.class;
+            case "float" -> float.class;
+            case "short" -> short.class;
+            case "byte" -> byte.class;
+            case "char" -> char.class;
+            default -> Class.forName(name, false, cl);
+        };
+    }
+
     @Override
     public void handle(HttpExchange exchange) throws IOException {
         String requestPath = exchange.getRequestURI().getPath();
         String httpMethod  = exchange.getRequestMethod();
 
+        // 트레이싱이 꺼져 있거나 샘플링되지 않으면 trace == null, 체크포인트는 모두 건너뛴다
+        // 워밍업 요청은 느린 요청 기록을 오염시키지 않도록 트레이싱과 JFR 이벤트에서 제외
+        boolean synthetic = exchange instanceof SyntheticExchange;
+        RequestTrace trace = (tracer != null && !synthetic) ? tracer.start(httpMethod, requestPath) : null;
+        // JFR 기록 중일 때만 이벤트 객체를 만든다
+        RequestEvent event = (!synthetic && RequestEvent.isRecording()) ? new RequestEvent() : null;
+        if (event != null) event.begin();
+
         MethodInfo methodInfo = findMethodInfo(requestPath, httpMethod);
-        if (methodInfo == null) {
-            String notFound = "404 Not Found";
-            exchange.sendResponseHeaders(404, notFound.length());
-            try (OutputStream os = exchange.getResponseBody()) { os.write(notFound.getBytes()); }
+        if (trace != null) trace.mark(Phase.ROUTE);
+
+        // 제한 시간은 대기열 시간까지 포함한다. 만료되면 타이머 스레드가 바로 504를 보낸다
+        long timeout = (methodInfo != null) ? effectiveTimeout(exchange, methodInfo) : 0;
+        Deadline deadline = (timeout > 0)
+                ? deadlineTimer.start(timeout, () -> sendTimeout(exchange, timeout, trace, event, httpMethod, requestPath),
+                        exchange::close)
+                : null;
+
+        BulkheadExecutor bulkhead = (methodInfo != null) ? methodInfo.getBulkhead() : null;
+        if (bulkhead == null) {
+            process(exchange, methodInfo, requestPath, httpMethod, trace, event, deadline);
             return;
         }
 
+        // 라우팅 후 전용 풀로 넘기고 서버 스레드는 바로 반환. 응답은 풀 스레드에서 보낸다
+        boolean accepted = bulkhead.tryExecute(methodInfo.getPriority(), () -> {
+            if (trace != null) trace.mark(Phase.QUEUE);
+            try {
+                process(exchange, methodInfo, requestPath, httpMethod, trace, event, deadline);
+            } catch (IOException e) {
+                log.warn("Failed to write response for %s %s: %s", httpMethod, requestPath, e.getMessage());
+                exchange.close();
+            }
+        });
+        if (!accepted) {
+            int status = 503;
+            try {
+                sendResponse(exchange, status, "text/plain;charset=UTF-8",
+                        ("Service Unavailable: bulkhead '" + bulkhead.getName() + "' is full").getBytes(StandardCharsets.UTF_8),
+                        trace, deadline);
+            } finally {
+                if (deadline != null) deadlineTimer.exit(deadline);
+                if (deadline == null || !deadline.isTimedOut()) complete(trace, event, httpMethod, requestPath, status);
+            }
+        }
+    }
+
+    private void process(HttpExchange exchange, MethodInfo methodInfo, String requestPath, String httpMethod,
+                         RequestTrace trace, RequestEvent event, Deadline deadline) throws IOException {
+        if (deadline != null && !deadlineTimer.enter(deadline)) {
+            return; // 대기 중에 만료돼 이미 504를 보냈으므로 실행하지 않는다
+        }
+        int status = 500;
+        try {
+            status = dispatch(exchange, methodInfo, requestPath, httpMethod, trace, deadline);
+        } finally {
+            if (deadline != null) deadlineTimer.exit(deadline);
+            // 만료된 요청은 타이머가 504와 함께 기록했다
+            if (deadline == null || !deadline.isTimedOut()) complete(trace, event, httpMethod, requestPath, status);
+        }
+    }
+
+    // 타이머 스레드에서 실행된다. 핸들러 스레드는 이후 인터럽트되고 그 응답은 버려진다.
+    // 스트림을 닫으면 남은 요청 본문을 비우느라 막힐 수 있으므로 flush까지만 하고, 교환은 DeadlineTimer가 나중에 닫는다
+    private void sendTimeout(HttpExchange exchange, long timeout, RequestTrace trace, RequestEvent event,
+                             String httpMethod, String requestPath) {
+        // 작업 스레드는 아직 trace에 기록 중일 수 있으므로 이 시점 값으로 고정한 뒤 헤더를 만든다
+        if (trace != null) trace.freeze();
+        byte[] body = ("Gateway Timeout: request exceeded " + timeout + " ms").getBytes(StandardCharsets.UTF_8);
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "text/plain;charset=UTF-8");
+            // 작업 스레드가 아직 연결을 쥐고 있을 수 있으므로 재사용하지 않게 한다
+            exchange.getResponseHeaders().set("Connection", "close");
+            if (trace != null) exchange.getResponseHeaders().set("Server-Timing", trace.toServerTiming());
+            exchange.sendResponseHeaders(504, body.length);
+            OutputStream os = exchange.getResponseBody();
+            os.write(body);
+            os.flush();
+        } catch (IOException e) {
+            log.debug("Failed to write timeout response for %s %s: %s", httpMethod, requestPath, e.getMessage());
+        } finally {
+            complete(trace, event, httpMethod, requestPath, 504);
+        }
+    }
+
+    private void complete(RequestTrace trace, RequestEvent event, String httpMethod, String requestPath, int status) {
+        if (trace != null) tracer.finish(trace, status);
+        if (event != null && event.shouldCommit()) {
+            event.method = httpMethod;
+            event.path = requestPath;
+            event.status = status;
+            event.commit();
+        }
+    }
+
+    private int dispatch(HttpExchange exchange, MethodInfo methodInfo, String requestPath, String httpMethod,
+                         RequestTrace trace, Deadline deadline) throws IOException {
+        if (methodInfo == null) {
+            sendResponse(exchange, 404, null, "404 Not Found".getBytes(), trace, deadline);
+            return 404;
+        }
+
         try {
             //  리플렉션
-            Object controller = methodInfo.getBean();
             Method handlerMethod = methodInfo.getMethod();
             Parameter[] parameters = handlerMethod.getParameters();
             Object[] args = new Object[parameters.length];
@@ -90,7 +368,9 @@ public class DispatcherHandler implements HttpHandler {
                 Parameter param = parameters[i];
 
                 if (param.isAnnotationPresent(RequestBody.class)) {
+                    if (trace != null) trace.mark(Phase.BIND);
                     args[i] = objectMapper.readValue(exchange.getRequestBody(), param.getType());
+                    if (trace != null) trace.mark(Phase.BODY);
                     continue;
                 }
 
@@ -98,8 +378,8 @@ public class DispatcherHandler implements HttpHandler {
                     String varName = param.getAnnotation(PathVariable.class).value();
                     String varValue = pathVariables.get(varName);
                     if (varValue == null) {
-                        send400(exchange, "Missing path variable: " + varName);
-                        return;
+                        send400(exchange, "Missing path variable: " + varName, trace, deadline);
+                        return 400;
                     }
                     args[i] = convertSingle(varValue, param.getType());
                     continue;
@@ -112,8 +392,8 @@ public class DispatcherHandler implements HttpHandler {
 
                     if (values.isEmpty()) {
                         if (rp.required() && rp.defaultValue().isEmpty()) {
-                            send400(exchange, "Missing required query parameter: " + name);
-                            return;
+                            send400(exchange, "Missing required query parameter: " + name, trace, deadline);
+                            return 400;
                         }
 
                         if (!rp.defaultValue().isEmpty()) {
@@ -128,45 +408,124 @@ public class DispatcherHandler implements HttpHandler {
                     args[i] = exchange;
                     continue;
                 }
-            }
-
-            Object result = handlerMethod.invoke(controller, args);
 
-            if (methodInfo.isRestController()) {
-                exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
-                exchange.sendResponseHeaders(200, 0);
-                try (OutputStream os = exchange.getResponseBody()) {
-                    objectMapper.writeValue(os, result);
+                if (param.getType().equals(Deadline.class)) {
+                    args[i] = (deadline != null) ? deadline : Deadline.NONE;
+                    continue;
                 }
             }
-
-            else {
-                String response = (result != null) ? result.toString() : "";
-                exchange.getResponseHeaders().set("Content-Type", "text/html;charset=UTF-8");
-                exchange.sendResponseHeaders(200, response.getBytes(StandardCharsets.UTF_8).length);
-                try (OutputStream os = exchange.getResponseBody()) {
-                    os.write(response.getBytes(StandardCharsets.UTF_8));
-                }
+            if (trace != null) trace.mark(Phase.BIND);
+
+            byte[] body;
+            if (methodInfo.isCoalesced()) {
+                // 바인딩된 인자가 같으면 같은 요청으로 보고 실행/직렬화 결과(byte[])를 공유
+                String key = coalesceKey(httpMethod, methodInfo.getMappingPath(), args);
+                // leader의 작업은 합류한 요청들의 결과이기도 하므로 leader 요청의 deadline으로 중단하지 않는다.
+                // 각 요청은 자신의 deadline에 504를 받고, follower는 기다리다 자신의 deadline에 인터럽트된다.
+                // 대신 멈춘 핸들러는 인터럽트되지 않고 스레드를 계속 점유한다
+                body = singleFlight.execute(key, () -> {
+                    if (deadline != null) deadlineTimer.detachForSharedWork(deadline);
+                    return invokeAndSerialize(methodInfo, args, trace);
+                });
+                if (trace != null) trace.mark(Phase.HANDLER);
+            } else {
+                body = invokeAndSerialize(methodInfo, args, trace);
+            }
+            String contentType = methodInfo.isRestController()
+                    ? "application/json;charset=UTF-8"
+                    : "text/html;charset=UTF-8";
+            sendResponse(exchange, 200, contentType, body, trace, deadline);
+            return 200;
+        }
+        catch (InvocationTargetException e) {
+            if (deadline != null && deadline.isTimedOut()) {
+                return 504; // 인터럽트로 중단된 핸들러. 응답은 이미 나갔다
+            }
+            if (e.getCause() instanceof ResponseStatusException rse) {
+                boolean sent = sendResponse(exchange, rse.getStatus(), "text/plain;charset=UTF-8",
+                        String.valueOf(rse.getMessage()).getBytes(StandardCharsets.UTF_8), trace, deadline);
+                if (sent && rse instanceof DeadlineExceededException) deadlineTimer.recordCooperativeTimeout();
+                return rse.getStatus();
             }
+            sendResponse(exchange, 500, null, "Internal Server Error".getBytes(), trace, deadline);
+            log.error("Handler failed: " + httpMethod + " " + requestPath, e.getCause() != null ? e.getCause() : e);
+            return 500;
+        }
+        catch (TimeoutException e) {
+            // 합류한 요청이 선행 요청의 결과를 제한 시간 안에 받지 못함
+            sendResponse(exchange, 504, null, "Gateway Timeout".getBytes(), trace, deadline);
+            return 504;
         }
         catch (Exception e) {
-            String error = "Internal Server Error";
-            exchange.sendResponseHeaders(500, error.length());
-            try (OutputStream os = exchange.getResponseBody()) { os.write(error.getBytes()); }
-            e.printStackTrace();
+            if (deadline != null && deadline.isTimedOut()) {
+                return 504;
+            }
+            sendResponse(exchange, 500, null, "Internal Server Error".getBytes(), trace, deadline);
+            log.error("Request failed: " + httpMethod + " " + requestPath, e);
+            return 500;
         }
     }
 
 
-    private void send400(HttpExchange exchange, String msg) throws IOException {
-        exchange.getResponseHeaders().set("Content-Type", "text/plain;charset=UTF-8");
-        byte[] body = msg.getBytes(StandardCharsets.UTF_8);
-        exchange.sendResponseHeaders(400, body.length);
+    // 인자마다 길이를 앞에 붙여 구분자가 들어간 값끼리, 그리고 누락(null)과 문자열 "null"이 같은 키가 되지 않게 한다
+    static String coalesceKey(String httpMethod, String mappingPath, Object[] args) {
+        StringBuilder key = new StringBuilder(httpMethod).append(' ').append(mappingPath);
+        for (Object arg : args) {
+            if (arg == null) {
+                key.append("|-");
+                continue;
+            }
+            String value = Arrays.deepToString(new Object[]{arg});
+            key.append('|').append(value.length()).append(':').append(value);
+        }
+        return key.toString();
+    }
+
+    private byte[] invokeAndSerialize(MethodInfo methodInfo, Object[] args, RequestTrace trace) throws Exception {
+        Object result = methodInfo.getMethod().invoke(methodInfo.getBean(), args);
+        if (trace != null) trace.mark(Phase.HANDLER);
+
+        // 직렬화를 헤더 전송 전에 끝내야 Server-Timing에 포함할 수 있다
+        byte[] body;
+        if (methodInfo.isRestController()) {
+            body = objectMapper.writeValueAsBytes(result);
+        } else {
+            String response = (result != null) ? result.toString() : "";
+            body = response.getBytes(StandardCharsets.UTF_8);
+        }
+        if (trace != null) trace.mark(Phase.SERIALIZE);
+        return body;
+    }
+
+    private void send400(HttpExchange exchange, String msg, RequestTrace trace, Deadline deadline) throws IOException {
+        sendResponse(exchange, 400, "text/plain;charset=UTF-8", msg.getBytes(StandardCharsets.UTF_8), trace, deadline);
+    }
+
+    /** @return 제한 시간 초과로 타이머가 먼저 응답했으면 false (응답을 버린다) */
+    private boolean sendResponse(HttpExchange exchange, int status, String contentType, byte[] body,
+                                 RequestTrace trace, Deadline deadline) throws IOException {
+        if (deadline != null && !deadlineTimer.claimResponse(deadline)) {
+            return false;
+        }
+        writeResponse(exchange, status, contentType, body, trace);
+        return true;
+    }
+
+    private void writeResponse(HttpExchange exchange, int status, String contentType, byte[] body,
+                               RequestTrace trace) throws IOException {
+        if (contentType != null) exchange.getResponseHeaders().set("Content-Type", contentType);
+        if (trace != null) exchange.getResponseHeaders().set("Server-Timing", trace.toServerTiming());
+        exchange.sendResponseHeaders(status, body.length);
         try (OutputStream os = exchange.getResponseBody()) { os.write(body); }
     }
 
 
     private MethodInfo findMethodInfo(String requestPath, String httpMethod) {
+        // 고정 경로가 경로 변수 패턴보다 우선 (/users/page vs /users/{id})
+        Map<String, MethodInfo> exact = handlerMapping.get(requestPath);
+        if (exact != null && exact.containsKey(httpMethod)) {
+            return exact.get(httpMethod);
+        }
         for (Map.Entry<String, Map<String, MethodInfo>> entry : handlerMapping.entrySet()) {
             String mappingPath = entry.getKey();
             if (isPathMatch(mappingPath, requestPath)) {
@@ -234,6 +593,7 @@ public class DispatcherHandler implements HttpHandler {
     @SuppressWarnings("unchecked")
     private Object convertSingle(String value, Class<?> t) {
         if (t == String.class) return value;
+        if (value == null && !t.isPrimitive()) return null; // 선택 파라미터 (Integer 등)
         if (t == int.class || t == Integer.class) return Integer.parseInt(value);
         if (t == long.class || t == Long.class) return Long.parseLong(value);
         if (t == boolean.class || t == Boolean.class) return Boolean.parseBoolean(value);
@@ -273,9 +633,13 @@ public class DispatcherHandler implements HttpHandler {
         private final Method method;
         private final boolean isRestController;
         private final String mappingPath;
+        private final boolean coalesced;
+        private final BulkheadExecutor bulkhead;
+        private final int priority;
+        private final long timeoutMillis;
 
         public MethodInfo(Object bean, Method method, boolean isRestController) {
-            this(bean, method, isRestController, null);
+            this(bean, method, isRestController, null, false, null, 0, 0);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.winter.winterboot;
+
+/**
+ * 핸들러에서 던지면 {@link DispatcherHandler}가 500 대신 지정한 상태 코드와 메시지로 응답한다.
+ */
+public class ResponseStatusException extends RuntimeException {
+
+    private final int status;
+
+    public ResponseStatusException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() { return status; }
+}
@@ -5,8 +5,11 @@ import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpExchange;
 import com.winter.winterboot.DispatcherHandler;
 import com.winter.winterboot.core.ApplicationContext;
+import com.winter.winterboot.core.aot.StartupSnapshot;
 import com.winter.winterboot.core.autoconf.AutoConfigurationLoader;
 import com.winter.winterboot.core.env.Environment;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -14,10 +17,22 @@ import java.net.InetSocketAddress;
 
 
 public class WinterBootApplication {
+
+    private static final Logger log = LoggerFactory.getLogger(WinterBootApplication.class);
+
     public static void run(Class<?> mainClass) {
-        ApplicationContext context = new ApplicationContext("com.winter.winterboot");
+        long start = System.nanoTime();
+        String basePackage = "com.winter.winterboot";
         Environment env = new Environment();
+        LoggerFactory.configure(env);
+        StartupSnapshot snapshot = StartupSnapshot.open(env, basePackage);
+        ApplicationContext context = new ApplicationContext(basePackage, snapshot);
         AutoConfigurationLoader.load(context, env);
-        System.out.println("WinterBoot application started.");
+        if (snapshot != null && !snapshot.isHit()) {
+            snapshot.save();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("WinterBoot application started in %d ms (snapshot: %s).", elapsedMs,
+                snapshot == null ? "off" : snapshot.isHit() ? "hit" : "miss");
     }
 }
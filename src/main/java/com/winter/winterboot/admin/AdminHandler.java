@@ -0,0 +1,124 @@
+package com.winter.winterboot.admin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 진단용 관리 엔드포인트.
+ * <pre>
+ * POST {prefix}/jfr/start?settings=default|profile&duration=60   JFR 기록 시작
+ * POST {prefix}/jfr/stop                                          기록 종료 후 .jfr 파일 전송
+ * GET  {prefix}/jfr/status
+ * GET  {prefix}/threads                                           스레드 덤프
+ * GET  {prefix}/heap/histogram                                    힙 클래스 히스토그램
+ * </pre>
+ */
+public class AdminHandler implements HttpHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminHandler.class);
+
+    private final String prefix;
+    private final FlightRecorderControl jfr = new FlightRecorderControl();
+
+    public AdminHandler(String prefix) {
+        this.prefix = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String sub = path.startsWith(prefix) ? path.substring(prefix.length()) : path;
+        String route = exchange.getRequestMethod() + " " + sub;
+
+        try {
+            switch (route) {
+                case "POST /jfr/start" -> {
+                    Map<String, String> q = parseQuery(exchange.getRequestURI().getRawQuery());
+                    long id = jfr.start(q.getOrDefault("settings", "default"), parseDuration(q.get("duration")));
+                    log.info("JFR recording %d started", id);
+                    sendText(exchange, 200, "started recording " + id);
+                }
+                case "POST /jfr/stop" -> sendRecording(exchange, jfr.stopAndDump());
+                case "GET /jfr/status" -> sendText(exchange, 200, jfr.status());
+                case "GET /threads" -> sendText(exchange, 200, diagnosticCommand("threadPrint"));
+                case "GET /heap/histogram" -> sendText(exchange, 200, diagnosticCommand("gcClassHistogram"));
+                default -> sendText(exchange, 404, "404 Not Found");
+            }
+        } catch (IllegalStateException e) {
+            // 이미 기록 중이거나 시작한 기록이 없음
+            sendText(exchange, 409, e.getMessage());
+        } catch (IllegalArgumentException | ParseException e) {
+            // 잘못된 duration / settings 등 요청 파라미터 오류
+            sendText(exchange, 400, e.getMessage());
+        } catch (Exception e) {
+            log.error("Admin request failed: " + route, e);
+            sendText(exchange, 500, "Internal Server Error");
+        }
+    }
+
+    private static Duration parseDuration(String seconds) {
+        if (seconds == null) return null;
+        try {
+            long value = Long.parseLong(seconds);
+            if (value <= 0) throw new IllegalArgumentException("duration must be positive: " + seconds);
+            return Duration.ofSeconds(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("duration must be a number of seconds: " + seconds);
+        }
+    }
+
+    private void sendRecording(HttpExchange exchange, Path file) throws IOException {
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.getResponseHeaders().set("Content-Disposition",
+                    "attachment; filename=\"" + file.getFileName() + "\"");
+            exchange.sendResponseHeaders(200, Files.size(file));
+            try (OutputStream os = exchange.getResponseBody()) {
+                Files.copy(file, os);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // jcmd와 같은 DiagnosticCommand MBean 사용 (JDK 내장)
+    private static String diagnosticCommand(String operation) throws Exception {
+        ObjectName name = new ObjectName("com.sun.management:type=DiagnosticCommand");
+        return (String) ManagementFactory.getPlatformMBeanServer().invoke(name, operation,
+                new Object[]{new String[0]}, new String[]{String[].class.getName()});
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) { os.write(body); }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return params;
+        for (String pair : rawQuery.split("&")) {
+            int idx = pair.indexOf('=');
+            String key = URLDecoder.decode(idx > 0 ? pair.substring(0, idx) : pair, StandardCharsets.UTF_8);
+            String val = URLDecoder.decode(idx > 0 ? pair.substring(idx + 1) : "", StandardCharsets.UTF_8);
+            params.put(key, val);
+        }
+        return params;
+    }
+}
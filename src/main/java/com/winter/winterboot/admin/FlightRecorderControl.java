@@ -0,0 +1,69 @@
+package com.winter.winterboot.admin;
+
+import com.winter.winterboot.core.jfr.BeanCreationEvent;
+import com.winter.winterboot.core.jfr.RequestEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/** 관리 엔드포인트에서 시작/종료하는 JFR 기록. 동시에 하나만 허용한다. */
+public class FlightRecorderControl {
+
+    private Recording recording;
+
+    /** @return 시작한 기록의 id */
+    public synchronized long start(String settings, Duration duration) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A recording is already running: " + recording.getId());
+        }
+        if (Configuration.getConfigurations().stream().noneMatch(c -> c.getName().equals(settings))) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings);
+        }
+        closeQuietly();
+        Recording r = new Recording(Configuration.getConfiguration(settings));
+        r.setName("winterboot-admin");
+        r.enable(RequestEvent.class);
+        r.enable(BeanCreationEvent.class);
+        if (duration != null) r.setDuration(duration);
+        r.start();
+        recording = r;
+        return r.getId();
+    }
+
+    /**
+     * 기록을 멈추고 임시 파일로 덤프한다. 호출한 쪽에서 파일을 전송한 뒤 지워야 한다.
+     * duration이 지나 이미 멈춘 기록도 덤프할 수 있다.
+     */
+    public synchronized Path stopAndDump() throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("No recording has been started");
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Path file = Files.createTempFile("winterboot-", ".jfr");
+        try {
+            recording.dump(file);
+        } finally {
+            closeQuietly();
+        }
+        return file;
+    }
+
+    public synchronized String status() {
+        return (recording == null) ? "NONE" : recording.getState().name();
+    }
+
+    private void closeQuietly() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
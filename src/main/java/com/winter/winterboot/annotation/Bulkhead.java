@@ -0,0 +1,18 @@
+package com.winter.winterboot.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러를 이름 붙은 전용 실행 풀에서 실행한다. 풀 크기와 대기열은
+ * winter.bulkhead.&lt;name&gt;.max-concurrency / queue-capacity 로 지정한다.
+ * priority가 클수록 같은 풀의 대기열에서 먼저 실행된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    String value();
+    int priority() default 0;
+}
@@ -0,0 +1,16 @@
+package com.winter.winterboot.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자로 동시에 들어온 GET 요청이 핸들러 실행과 직렬화 결과를 공유하도록 한다.
+ * 멱등한 핸들러에만 붙여야 하며, 인자는 @PathVariable / @RequestParam만 허용된다.
+ * 공유 실행은 요청 제한 시간({@link Timeout})이 지나도 인터럽트되지 않으므로, 멈출 수 있는 작업은 핸들러가 직접 시간을 제한해야 한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+}
@@ -0,0 +1,16 @@
+package com.winter.winterboot.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러의 요청 제한 시간(ms). 초과하면 클라이언트는 즉시 504를 받고 핸들러 스레드는 인터럽트된다.
+ * winter.timeout.route.&lt;Controller&gt;.&lt;method&gt; 프로퍼티가 있으면 그 값이 우선한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Timeout {
+    long value();
+}
@@ -0,0 +1,51 @@
+package com.winter.winterboot.autoconf;
+
+import com.sun.net.httpserver.HttpServer;
+import com.winter.winterboot.admin.AdminHandler;
+import com.winter.winterboot.core.autoconf.AutoConfiguration;
+import com.winter.winterboot.core.ApplicationContext;
+import com.winter.winterboot.core.env.Environment;
+import com.winter.winterboot.core.condition.ConditionalOnProperty;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * admin.port가 있으면 별도 HttpServer(기본 127.0.0.1)에, 없으면 메인 서버의 admin.path 아래에 관리 엔드포인트를 연다.
+ */
+@ConditionalOnProperty(prefix = "admin", name = "enabled", havingValue = "true")
+public class AdminAutoConfiguration implements AutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminAutoConfiguration.class);
+
+    @Override
+    public void apply(ApplicationContext ctx, Environment env) {
+        String prefix = env.get("admin.path", "/_admin");
+        AdminHandler handler = new AdminHandler(prefix);
+
+        if (env.hasKey("admin.port")) {
+            int port = env.getInt("admin.port", 0);
+            String address = env.get("admin.address", "127.0.0.1");
+            try {
+                HttpServer server = HttpServer.create(new InetSocketAddress(address, port), 0);
+                server.createContext(prefix, handler);
+                server.start();
+                log.info("Admin endpoints started at %s:%d%s", address, port, prefix);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to start admin HttpServer", e);
+            }
+            return;
+        }
+
+        if (!ctx.containsBeanOfType(HttpServer.class)) {
+            log.warn("Admin endpoints not registered: no HttpServer and no admin.port");
+            return;
+        }
+        ctx.getBean(HttpServer.class).createContext(prefix, handler);
+        // 스레드 덤프, 힙 히스토그램, .jfr 파일이 인증 없이 서비스 포트로 노출된다
+        log.warn("Admin endpoints registered at %s on the public server port without authentication; "
+                + "set admin.port to serve them on a separate (default 127.0.0.1) listener", prefix);
+    }
+}
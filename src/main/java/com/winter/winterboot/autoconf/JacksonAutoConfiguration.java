@@ -5,9 +5,14 @@ import com.winter.winterboot.core.autoconf.AutoConfiguration;
 import com.winter.winterboot.core.ApplicationContext;
 import com.winter.winterboot.core.env.Environment;
 import com.winter.winterboot.core.condition.ConditionalOnClass;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
 
 @ConditionalOnClass({"com.fasterxml.jackson.databind.ObjectMapper"})
 public class JacksonAutoConfiguration implements AutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(JacksonAutoConfiguration.class);
+
     @Override
     @SuppressWarnings("unchecked")
     public void apply(ApplicationContext ctx, Environment env) {
@@ -16,7 +21,7 @@ public class JacksonAutoConfiguration implements AutoConfiguration {
             if (!ctx.containsBeanOfType(om)) {
                 Object instance = om.getDeclaredConstructor().newInstance();
                 ctx.registerBean((Class<Object>) om, instance);
-                System.out.println("[AutoConfig] ObjectMapper registered");
+                log.info("ObjectMapper registered");
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to auto-configure ObjectMapper", e);
@@ -0,0 +1,83 @@
+package com.winter.winterboot.autoconf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.winter.winterboot.ResponseStatusException;
+import com.winter.winterboot.core.autoconf.AutoConfiguration;
+import com.winter.winterboot.core.ApplicationContext;
+import com.winter.winterboot.core.env.Environment;
+import com.winter.winterboot.core.condition.ConditionalOnProperty;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+import com.winter.winterboot.replication.Replicable;
+import com.winter.winterboot.replication.ReplicationFollower;
+import com.winter.winterboot.replication.ReplicationLeader;
+import com.winter.winterboot.replication.ReplicationLog;
+import com.winter.winterboot.replication.ReplicationStatusHandler;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * replication.role=leader  : replication.port로 팔로워 접속을 받아 쓰기 로그 전송
+ * replication.role=follower: replication.leader(host:port)에 접속해 로그를 반영하고 로컬 쓰기는 거부(503)
+ */
+@ConditionalOnProperty(prefix = "replication", name = "role")
+public class ReplicationAutoConfiguration implements AutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicationAutoConfiguration.class);
+
+    @Override
+    public void apply(ApplicationContext ctx, Environment env) {
+        Map<String, Replicable> stores = new HashMap<>();
+        for (Object bean : ctx.getBeans().values()) {
+            if (bean instanceof Replicable r) stores.put(r.replicationName(), r);
+        }
+
+        String role = env.get("replication.role", "").trim();
+        Supplier<Map<String, Object>> status;
+        switch (role) {
+            case "leader" -> {
+                ReplicationLog replicationLog = new ReplicationLog(
+                        env.getInt("replication.log.max-entries", ReplicationLog.DEFAULT_MAX_ENTRIES),
+                        Long.parseLong(env.get("replication.log.max-bytes", String.valueOf(ReplicationLog.DEFAULT_MAX_BYTES))));
+                stores.forEach((name, store) ->
+                        store.setWriteListener(payload -> replicationLog.append(name, payload)));
+                try {
+                    ReplicationLeader leader = new ReplicationLeader(replicationLog, stores,
+                            env.get("replication.address", "0.0.0.0"), env.getInt("replication.port", 9091));
+                    ctx.registerBean(ReplicationLeader.class, leader);
+                    status = leader::status;
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to start replication leader", e);
+                }
+            }
+            case "follower" -> {
+                String leaderAddr = env.get("replication.leader", "localhost:9091");
+                int idx = leaderAddr.lastIndexOf(':');
+                if (idx < 0) {
+                    throw new RuntimeException("replication.leader must be host:port: " + leaderAddr);
+                }
+                String message = "Read-only replica; send writes to the leader"
+                        + (env.hasKey("replication.leader-http") ? " at " + env.getRaw("replication.leader-http") : "");
+                stores.values().forEach(store -> store.setWriteListener(payload -> {
+                    throw new ResponseStatusException(503, message);
+                }));
+                ReplicationFollower follower = new ReplicationFollower(
+                        leaderAddr.substring(0, idx), Integer.parseInt(leaderAddr.substring(idx + 1)), stores);
+                ctx.registerBean(ReplicationFollower.class, follower);
+                status = follower::status;
+            }
+            default -> throw new RuntimeException("Unknown replication.role: " + role);
+        }
+        log.info("Replication %s for stores %s", role, stores.keySet());
+
+        if (ctx.containsBeanOfType(HttpServer.class)) {
+            String path = env.get("replication.status-path", "/_winter/replication");
+            ctx.getBean(HttpServer.class).createContext(path, new ReplicationStatusHandler(status, new ObjectMapper()));
+            log.info("Replication status endpoint at " + path);
+        }
+    }
+}
@@ -1,37 +1,71 @@
 // com.winter.winterboot.autoconf.WebServerAutoConfiguration
 package com.winter.winterboot.autoconf;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.winter.winterboot.DispatcherHandler;
+import com.winter.winterboot.bulkhead.BulkheadStatusHandler;
 import com.winter.winterboot.core.autoconf.AutoConfiguration;
 import com.winter.winterboot.core.ApplicationContext;
 import com.winter.winterboot.core.env.Environment;
 import com.winter.winterboot.core.condition.ConditionalOnProperty;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+import com.winter.winterboot.deadline.DeadlineStatusHandler;
+import com.winter.winterboot.trace.SlowRequestHandler;
+import com.winter.winterboot.warmup.WarmupRunner;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
 
 @ConditionalOnProperty(prefix = "server", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class WebServerAutoConfiguration implements AutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(WebServerAutoConfiguration.class);
+
     @Override
     public void apply(ApplicationContext ctx, Environment env) {
         // DispatcherHandler
         if (!ctx.containsBeanOfType(DispatcherHandler.class)) {
-            DispatcherHandler handler = new DispatcherHandler(ctx);
+            DispatcherHandler handler = new DispatcherHandler(ctx, env);
             ctx.registerBean(DispatcherHandler.class, handler);
-            System.out.println("[AutoConfig] DispatcherHandler registered");
+            log.info("DispatcherHandler registered");
         }
 
         // HttpServer
         if (!ctx.containsBeanOfType(com.sun.net.httpserver.HttpServer.class)) {
             int port = env.getInt("server.port", 8080);
             try {
-                var server = com.sun.net.httpserver.HttpServer.create(new InetSocketAddress(port), 0);
+                // 워밍업이 끝날 때까지 포트를 바인드하지 않는다
+                var server = com.sun.net.httpserver.HttpServer.create();
                 DispatcherHandler handler = ctx.getBean(DispatcherHandler.class);
                 server.createContext("/", handler);
-                server.setExecutor(null);
+                if (!handler.getBulkheads().isEmpty()) {
+                    String bulkheadPath = env.get("winter.bulkhead.path", "/_winter/bulkheads");
+                    server.createContext(bulkheadPath, new BulkheadStatusHandler(handler.getBulkheads(), new ObjectMapper()));
+                    log.info("Bulkhead status endpoint at " + bulkheadPath);
+                }
+                if (handler.hasTimeouts()) {
+                    String deadlinePath = env.get("winter.timeout.path", "/_winter/deadlines");
+                    server.createContext(deadlinePath, new DeadlineStatusHandler(handler.getDeadlineTimer(), new ObjectMapper()));
+                    log.info("Deadline status endpoint at " + deadlinePath);
+                }
+                if (handler.getTracer() != null) {
+                    String tracePath = env.get("winter.trace.path", "/_winter/trace/slow");
+                    server.createContext(tracePath,
+                            new SlowRequestHandler(handler.getTracer().getSlowRequestLog(), new ObjectMapper()));
+                    log.info("Slow request trace endpoint at " + tracePath);
+                }
+                // server.threads > 0이면 요청을 스레드 풀에서 병렬 처리 (기본은 HttpServer 디스패처 스레드 하나)
+                int threads = env.getInt("server.threads", 0);
+                server.setExecutor(threads > 0 ? Executors.newFixedThreadPool(threads) : null);
                 ctx.registerBean(com.sun.net.httpserver.HttpServer.class, server);
+                if (env.getBool("warmup.enabled", false)) {
+                    new WarmupRunner(handler, env).run();
+                }
+                server.bind(new InetSocketAddress(port), 0);
                 server.start();
-                System.out.println("[AutoConfig] HttpServer started at port " + port);
+                log.info("HttpServer started at port " + port);
             } catch (IOException e) {
                 throw new RuntimeException("Failed to start HttpServer", e);
             }
@@ -0,0 +1,110 @@
+package com.winter.winterboot.bulkhead;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 실행 수(maxConcurrency)와 대기열 크기(queueCapacity)가 제한된 라우트 전용 실행 풀.
+ * 대기열은 우선순위 순(같으면 도착 순)이며, 가득 차면 작업을 받지 않고 거절 수를 센다.
+ */
+public class BulkheadExecutor {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    public BulkheadExecutor(String name, int maxConcurrency, int queueCapacity) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "winter-bulkhead-" + name + "-" + threadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * @return 대기열(실행 중 + 대기 중)이 가득 차 거절했으면 false
+     */
+    public boolean tryExecute(int priority, Runnable task) {
+        // PriorityBlockingQueue는 크기 제한이 없으므로 입장 수를 직접 센다
+        int current;
+        do {
+            current = pending.get();
+            if (current >= maxConcurrency + queueCapacity) {
+                rejected.increment();
+                return false;
+            }
+        } while (!pending.compareAndSet(current, current + 1));
+
+        executor.execute(new PrioritizedTask(priority, sequence.getAndIncrement(), () -> {
+            try {
+                task.run();
+            } finally {
+                // pending이 0이면 완료 집계까지 끝난 상태가 되도록 순서를 지킨다 (awaitIdle)
+                completed.increment();
+                pending.decrementAndGet();
+            }
+        }));
+        return true;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("name", name);
+        out.put("maxConcurrency", maxConcurrency);
+        out.put("queueCapacity", queueCapacity);
+        out.put("active", executor.getActiveCount());
+        out.put("queueDepth", executor.getQueue().size());
+        out.put("rejected", rejected.sum());
+        out.put("completed", completed.sum());
+        return out;
+    }
+
+    /** 실행 중이거나 대기 중인 작업이 없어질 때까지 기다린다. @return 시간 안에 비었으면 true */
+    public boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (pending.get() > 0) {
+            if (System.nanoTime() - deadline >= 0) return false;
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /** 거절/완료 집계를 0으로 되돌린다 (워밍업 뒤) */
+    public void resetStats() {
+        rejected.reset();
+        completed.reset();
+    }
+
+    public String getName() { return name; }
+
+    private record PrioritizedTask(int priority, long seq, Runnable delegate)
+            implements Runnable, Comparable<PrioritizedTask> {
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask o) {
+            int byPriority = Integer.compare(o.priority, priority);
+            return byPriority != 0 ? byPriority : Long.compare(seq, o.seq);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.winter.winterboot.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/** 풀별 실행 중/대기 중 작업 수와 거절 수를 JSON으로 반환 */
+public class BulkheadStatusHandler implements HttpHandler {
+
+    private final Collection<BulkheadExecutor> executors;
+    private final ObjectMapper objectMapper;
+
+    public BulkheadStatusHandler(Collection<BulkheadExecutor> executors, ObjectMapper objectMapper) {
+        this.executors = executors;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (BulkheadExecutor e : executors) out.add(e.stats());
+        byte[] body = objectMapper.writeValueAsBytes(out);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) { os.write(body); }
+    }
+}
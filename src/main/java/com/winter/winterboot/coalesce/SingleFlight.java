@@ -0,0 +1,72 @@
+package com.winter.winterboot.coalesce;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 키로 동시에 들어온 작업 중 첫 번째(leader)만 실행하고, 나머지(follower)는 그 결과를 기다려 공유한다.
+ * 작업이 끝나면 키를 바로 제거하므로 결과를 캐시하지는 않는다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public SingleFlight(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * leader가 던진 예외는 follower에게도 그대로 다시 던져진다.
+     * follower가 timeoutMillis 안에 결과를 받지 못하면 {@link TimeoutException}.
+     */
+    public V execute(K key, Callable<V> work) throws Exception {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            shared.increment();
+            try {
+                return existing.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception ex) throw ex;
+                if (cause instanceof Error err) throw err;
+                throw e;
+            }
+        }
+
+        executions.increment();
+        try {
+            V value = work.call();
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 실제로 작업을 실행한 횟수 */
+    public long getExecutions() { return executions.sum(); }
+
+    /** 다른 요청의 실행 결과를 공유받은 횟수 */
+    public long getShared() { return shared.sum(); }
+
+    public int getInFlight() { return inFlight.size(); }
+
+    /** 실행/공유 집계를 0으로 되돌린다 (워밍업 뒤) */
+    public void resetStats() {
+        executions.reset();
+        shared.reset();
+    }
+}
@@ -1,29 +1,192 @@
 package com.winter.winterboot.component;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.winter.winterboot.annotation.Component;
+import com.winter.winterboot.deadline.Deadline;
 import com.winter.winterboot.domain.User;
+import com.winter.winterboot.replication.Replicable;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 @Component
-public class UserRepository {
+public class UserRepository implements Replicable {
 
     private final Map<Integer, User> store = new java.util.concurrent.ConcurrentHashMap<>();
+
+    // 정렬 보조 인덱스: 페이지 조회를 O(log n + size)로 처리하기 위해 save에서 함께 갱신
+    private final ConcurrentSkipListMap<Integer, User> idIndex = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<NameKey, User> nameIndex = new ConcurrentSkipListMap<>();
+    // 색인에 넣은 시점의 이름. 저장된 객체의 이름이 나중에 바뀌어도 옛 항목을 정확히 지울 수 있다
+    private final Map<Integer, NameKey> indexedNames = new java.util.concurrent.ConcurrentHashMap<>();
+
+    // 복제 모드에서만 설정됨: 리더는 쓰기 로그에 추가, 팔로워는 예외로 쓰기 거부
+    private volatile Consumer<String> writeListener;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 쓰기는 읽기 락을 공유하고, 복제 스냅샷만 쓰기 락으로 진행 중인 쓰기가 없는 시점을 잡는다
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
     public void save(User user) {
-        store.put(user.getId(), user);
+        Consumer<String> listener = writeListener;
+        if (listener == null) {
+            apply(user, null);
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize user for replication: " + user.getId(), e);
+        }
+        apply(user, () -> listener.accept(payload));
+    }
+
+    @Override
+    public void setWriteListener(Consumer<String> listener) {
+        this.writeListener = listener;
+    }
+
+    @Override
+    public void applyReplicated(String payload) {
+        try {
+            apply(objectMapper.readValue(payload, User.class), null);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Invalid replicated user: " + payload, e);
+        }
     }
+
+    @Override
+    public List<String> snapshot(Runnable atConsistentPoint) {
+        List<User> users;
+        snapshotLock.writeLock().lock();
+        try {
+            atConsistentPoint.run();
+            users = new ArrayList<>(idIndex.values());
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+        // 저장된 객체는 사본이므로 직렬화는 락 밖에서 한다
+        List<String> payloads = new ArrayList<>(users.size());
+        for (User u : users) {
+            try {
+                payloads.add(objectMapper.writeValueAsString(u));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Failed to serialize user for replication: " + u.getId(), e);
+            }
+        }
+        return payloads;
+    }
+
+    @Override
+    public void clearReplicated() {
+        snapshotLock.writeLock().lock();
+        try {
+            store.clear();
+            idIndex.clear();
+            nameIndex.clear();
+            indexedNames.clear();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    private void apply(User user, Runnable beforeWrite) {
+        // 호출자가 넘긴 객체를 나중에 수정해도 저장소/인덱스가 바뀌지 않도록 사본을 저장
+        User stored = copy(user);
+        snapshotLock.readLock().lock();
+        try {
+            // 같은 id에 대한 동시 save가 인덱스를 엇갈리게 갱신하지 않도록 compute 안에서 처리
+            // (쓰기 로그 순서도 같은 id 안에서는 실제 반영 순서와 같아진다)
+            store.compute(stored.getId(), (id, previous) -> {
+                if (beforeWrite != null) beforeWrite.run();
+                NameKey previousKey = indexedNames.get(id);
+                if (previousKey != null) {
+                    nameIndex.remove(previousKey);
+                }
+                NameKey key = new NameKey(stored.getName(), id);
+                idIndex.put(id, stored);
+                nameIndex.put(key, stored);
+                indexedNames.put(id, key);
+                return stored;
+            });
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    // 조회 결과도 사본으로 돌려준다. 저장된 객체를 직접 바꾸면 nameIndex 순서가 어긋나고 복제되지도 않는다
     public User findById(int id) {
-        return store.get(id);
+        User user = store.get(id);
+        return (user != null) ? copy(user) : null;
     }
 
     public List<User> findAll() {
-        return new ArrayList<>(store.values());
+        return take(idIndex.values(), Integer.MAX_VALUE);
     }
-    public List<User> findByName(String name) {
-        return store.values().stream()
-                .filter(u -> u.getName().contains(name))
+
+    /** id 순으로 순회하다 limit개가 모이면 멈춘다 (전체 복사 없음) */
+    public List<User> findByName(String name, int limit) {
+        return findByName(name, limit, Deadline.NONE);
+    }
+
+    /** 순회 중 deadline이 지나면 DeadlineExceededException으로 스캔을 멈춘다 */
+    public List<User> findByName(String name, int limit, Deadline deadline) {
+        return idIndex.values().stream()
+                .filter(u -> {
+                    deadline.check();
+                    return u.getName().contains(name);
+                })
+                .limit(limit)
+                .map(UserRepository::copy)
                 .toList();
     }
+
+    /**
+     * id 오름차순 범위 조회. afterId(제외)부터 toId(포함)까지 최대 limit개.
+     * null 경계는 열린 구간으로 취급한다.
+     */
+    public List<User> findByIdRange(Integer afterId, Integer toId, int limit) {
+        NavigableMap<Integer, User> range = idIndex;
+        if (afterId != null) range = range.tailMap(afterId, false);
+        if (toId != null) range = range.headMap(toId, true);
+        return take(range.values(), limit);
+    }
+
+    /** (name, id) 오름차순으로 (afterName, afterId) 다음 항목부터 최대 limit개 */
+    public List<User> findAfterByName(String afterName, Integer afterId, int limit) {
+        NavigableMap<NameKey, User> range = nameIndex;
+        if (afterId != null) range = range.tailMap(new NameKey(afterName, afterId), false);
+        return take(range.values(), limit);
+    }
+
+    private static List<User> take(Iterable<User> values, int limit) {
+        List<User> out = new ArrayList<>(Math.min(limit, 64));
+        for (User u : values) {
+            if (out.size() >= limit) break;
+            out.add(copy(u));
+        }
+        return out;
+    }
+
+    private static User copy(User user) {
+        return new User(user.getId(), user.getName());
+    }
+
+    private record NameKey(String name, int id) implements Comparable<NameKey> {
+        private static final Comparator<NameKey> ORDER = Comparator
+                .comparing(NameKey::name, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingInt(NameKey::id);
+
+        @Override
+        public int compareTo(NameKey o) {
+            return ORDER.compare(this, o);
+        }
+    }
 }
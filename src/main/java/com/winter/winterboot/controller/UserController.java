@@ -1,9 +1,14 @@
 package com.winter.winterboot.controller;
 
+import com.winter.winterboot.ResponseStatusException;
 import com.winter.winterboot.annotation.*;
 import com.winter.winterboot.component.UserRepository;
+import com.winter.winterboot.deadline.Deadline;
+import com.winter.winterboot.domain.Page;
 import com.winter.winterboot.domain.User;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 @RestController
@@ -17,22 +22,63 @@ public class UserController {
         return "WinterBoot";
     }
 
+    @Coalesce
     @GetMapping("/users/{id}")
     public User getUser(@PathVariable("id") int id) {
         User found = userRepository.findById(id);
         return (found != null) ? found : new User(id, "unknown");
     }
 
+    // 이름 검색은 전체 스캔이므로 전용 풀에서 실행해 단건 조회를 굶기지 않도록 한다
+    // 대기열 시간을 포함해 2초 안에 끝나지 않으면 504. 스캔 중에도 deadline을 확인해 일찍 멈춘다
+    @Bulkhead("search")
+    @Timeout(2000)
     @GetMapping("/users")
     public List<User> list(
             @RequestParam("name") String name,
-            @RequestParam(value="limit", required=false, defaultValue="10") int limit
+            @RequestParam(value="limit", required=false, defaultValue="10") int limit,
+            Deadline deadline
     ) {
 
-        return userRepository.findAll().stream()
-                .filter(u -> u.getName().contains(name))
-                .limit(limit)
-                .toList();
+        return userRepository.findByName(name, limit, deadline);
+    }
+
+    // 커서 기반 페이지 조회: cursor는 직전 페이지 마지막 항목의 정렬 키를 담은 불투명 토큰
+    @GetMapping("/users/page")
+    public Page<User> page(
+            @RequestParam(value="orderBy", required=false, defaultValue="id") String orderBy,
+            @RequestParam(value="cursor", required=false) String cursor,
+            @RequestParam(value="from", required=false) Integer fromId,
+            @RequestParam(value="to", required=false) Integer toId,
+            @RequestParam(value="size", required=false, defaultValue="20") int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(400, "size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String[] after = (cursor != null) ? decodeCursor(cursor, orderBy) : null;
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 읽는다
+        List<User> fetched;
+        if ("id".equals(orderBy)) {
+            Integer afterId = (after != null) ? Integer.valueOf(after[1])
+                    : (fromId != null && fromId > Integer.MIN_VALUE) ? fromId - 1 : null;
+            fetched = userRepository.findByIdRange(afterId, toId, size + 1);
+        } else if ("name".equals(orderBy)) {
+            if (fromId != null || toId != null) {
+                throw new ResponseStatusException(400, "from/to are only supported with orderBy=id");
+            }
+            fetched = (after != null)
+                    ? userRepository.findAfterByName(after.length > 2 ? after[2] : null, Integer.valueOf(after[1]), size + 1)
+                    : userRepository.findAfterByName(null, null, size + 1);
+        } else {
+            throw new ResponseStatusException(400, "Unsupported orderBy: " + orderBy);
+        }
+
+        if (fetched.size() <= size) {
+            return new Page<>(fetched, null);
+        }
+        List<User> items = fetched.subList(0, size);
+        return new Page<>(items, encodeCursor(orderBy, items.get(size - 1)));
     }
 
     @PostMapping("/users")
@@ -40,6 +86,31 @@ public class UserController {
         userRepository.save(newUser);
         return "ok";
     }
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static String encodeCursor(String orderBy, User last) {
+        String raw = orderBy + ":" + last.getId();
+        if ("name".equals(orderBy) && last.getName() != null) {
+            raw += ":" + last.getName();
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // [orderBy, id, name?]
+    private static String[] decodeCursor(String cursor, String orderBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            if (parts.length < 2 || !parts[0].equals(orderBy)) {
+                throw new IllegalArgumentException(raw);
+            }
+            Integer.parseInt(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(400, "Invalid cursor");
+        }
+    }
 }
 
 
@@ -1,6 +1,10 @@
 package com.winter.winterboot.core;
 
 import com.winter.winterboot.annotation.Inject;
+import com.winter.winterboot.core.aot.StartupSnapshot;
+import com.winter.winterboot.core.jfr.BeanCreationEvent;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
 import com.winter.winterboot.core.util.PackageScanner;
 
 import java.lang.reflect.Field;
@@ -10,24 +14,75 @@ import java.util.Set;
 
 public class ApplicationContext {
 
+    private static final Logger log = LoggerFactory.getLogger(ApplicationContext.class);
+
     private final Map<Class<?>, Object> beans = new HashMap<>();
+    private final StartupSnapshot startupSnapshot;
 
     public ApplicationContext(String basePackage) {
+        this(basePackage, null);
+    }
+
+    public ApplicationContext(String basePackage, StartupSnapshot startupSnapshot) {
+        this.startupSnapshot = startupSnapshot;
+
+        if (startupSnapshot != null && startupSnapshot.isHit() && restoreFromSnapshot()) {
+            log.info("application 생성자 동작 완료 (snapshot)");
+            return;
+        }
+
         Set<Class<?>> componentClasses = new PackageScanner().scanComponents(basePackage);
 
         componentClasses.forEach(this::createBean);
 
         beans.values().forEach(this::injectDependencies);
 
-        System.out.println("application 생성자 동작 완료 ");
+        log.info("application 생성자 동작 완료");
+    }
+
+    /**
+     * 스냅샷에 기록된 컴포넌트와 주입 계획을 그대로 재생한다.
+     * 클래스/필드가 사라졌다면 스냅샷을 무효화하고 false를 돌려 스캔 경로로 되돌아간다.
+     */
+    private boolean restoreFromSnapshot() {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        try {
+            for (String className : startupSnapshot.getComponents()) {
+                createBean(Class.forName(className, true, cl));
+            }
+            for (StartupSnapshot.Injection plan : startupSnapshot.getInjections()) {
+                Class<?> beanClass = Class.forName(plan.beanClass(), false, cl);
+                Object bean = beans.get(beanClass);
+                Object dependency = beans.get(Class.forName(plan.dependencyType(), false, cl));
+                if (bean == null || dependency == null) {
+                    throw new ReflectiveOperationException("주입 계획 불일치: " + plan);
+                }
+                Field field = beanClass.getDeclaredField(plan.fieldName());
+                field.setAccessible(true);
+                field.set(bean, dependency);
+            }
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Snapshot replay failed, falling back to scan: " + e);
+            beans.clear();
+            startupSnapshot.invalidate();
+            return false;
+        }
     }
 
     private void createBean(Class<?> componentClass) {
-        System.out.println("componentClass \n" +componentClass);
+        log.debug("componentClass %s", componentClass);
+        BeanCreationEvent event = new BeanCreationEvent();
+        event.begin();
         try {
             Object instance = componentClass.getDeclaredConstructor().newInstance();
-            System.out.println("instance= " + instance);
+            log.debug("instance= %s", instance);
             beans.put(componentClass, instance);
+            if (startupSnapshot != null) startupSnapshot.recordComponent(componentClass);
+            if (event.shouldCommit()) {
+                event.beanClass = componentClass.getName();
+                event.commit();
+            }
         } catch (Exception e) {
             throw new RuntimeException("빈 생성 실패: " + componentClass.getName(), e);
         }
@@ -42,13 +97,16 @@ public class ApplicationContext {
                     try {
                         field.setAccessible(true);
                         field.set(bean, dependency);
+                        if (startupSnapshot != null) {
+                            startupSnapshot.recordInjection(bean.getClass(), field.getName(), dependency.getClass());
+                        }
                     } catch (IllegalAccessException e) {
                         throw new RuntimeException("의존성 주입 실패: " + field.getName(), e);
                     }
                 } else {
                     throw new RuntimeException("주입 대상 빈을 찾지 못함: " + dependencyType.getName());
                 }
-                System.out.printf("Inject %s into %s.%s%n",
+                log.debug("Inject %s into %s.%s",
                         dependencyType.getSimpleName(),
                         bean.getClass().getSimpleName(),
                         field.getName());
@@ -76,6 +134,8 @@ public class ApplicationContext {
 
     public Map<Class<?>, Object> getBeans() { return beans; }
 
+    public StartupSnapshot getStartupSnapshot() { return startupSnapshot; }
+
     public <T> T getBean(Class<T> type) {
         Object o = resolveByAssignableType(type);
         return type.cast(o);
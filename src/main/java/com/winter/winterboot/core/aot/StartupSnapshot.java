@@ -0,0 +1,234 @@
+package com.winter.winterboot.core.aot;
+
+import com.winter.winterboot.core.env.Environment;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * 이전 기동에서 계산한 컴포넌트 목록, 주입 계획, 자동 구성 결과, 라우팅 테이블을 파일로 저장해 두고
+ * 클래스패스 지문(fingerprint)이 같으면 다음 기동에서 스캔/리플렉션 분석을 건너뛰게 해준다.
+ * 지문이 다르거나 파일이 깨져 있으면 {@link #isHit()}가 false가 되어 기존 경로로 동작한다.
+ */
+public class StartupSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupSnapshot.class);
+
+    private static final String VERSION = "1";
+    private static final String SEP = "|";
+
+    private final Path file;
+    private final String fingerprint;
+    private boolean hit;
+
+    private final List<String> components = new ArrayList<>();
+    private final List<Injection> injections = new ArrayList<>();
+    private final Set<String> autoConfigurations = new LinkedHashSet<>();
+    private final List<Route> routes = new ArrayList<>();
+
+    private StartupSnapshot(Path file, String fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * {@code winter.aot.snapshot.enabled=true}일 때만 스냅샷을 연다. 비활성화 상태면 null.
+     */
+    public static StartupSnapshot open(Environment env, String basePackage) {
+        if (!env.getBool("winter.aot.snapshot.enabled", false)) {
+            return null;
+        }
+        Path file = Paths.get(env.get("winter.aot.snapshot.path", ".winterboot/startup.snapshot"));
+        String fingerprint = fingerprint(env, basePackage);
+        if (fingerprint == null) {
+            return null;
+        }
+        StartupSnapshot snapshot = new StartupSnapshot(file, fingerprint);
+        snapshot.read();
+        return snapshot;
+    }
+
+    public boolean isHit() { return hit; }
+
+    /** 스냅샷 내용이 실제 클래스와 맞지 않을 때 호출. 이후 단계는 모두 일반 경로로 기록된다. */
+    public void invalidate() {
+        hit = false;
+        components.clear();
+        injections.clear();
+        autoConfigurations.clear();
+        routes.clear();
+    }
+
+    /** 기동 후반(라우팅 등)에서 불일치가 발견되면 파일을 지워 다음 기동에서 새로 기록되게 한다. */
+    public void discard() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete startup snapshot: " + e.getMessage());
+        }
+    }
+
+    public List<String> getComponents() { return Collections.unmodifiableList(components); }
+    public List<Injection> getInjections() { return Collections.unmodifiableList(injections); }
+    public Set<String> getAutoConfigurations() { return Collections.unmodifiableSet(autoConfigurations); }
+    public List<Route> getRoutes() { return Collections.unmodifiableList(routes); }
+
+    public void recordComponent(Class<?> componentClass) {
+        if (!hit) components.add(componentClass.getName());
+    }
+
+    public void recordInjection(Class<?> beanClass, String fieldName, Class<?> dependencyType) {
+        if (!hit) injections.add(new Injection(beanClass.getName(), fieldName, dependencyType.getName()));
+    }
+
+    public void recordAutoConfiguration(Class<?> autoConfigurationClass) {
+        if (!hit) autoConfigurations.add(autoConfigurationClass.getName());
+    }
+
+    public void recordRoute(String httpMethod, String path, Class<?> beanClass, String methodName,
+                            Class<?>[] parameterTypes) {
+        if (hit) return;
+        List<String> names = new ArrayList<>(parameterTypes.length);
+        for (Class<?> p : parameterTypes) names.add(p.getName());
+        routes.add(new Route(httpMethod, path, beanClass.getName(), methodName, names));
+    }
+
+    public void save() {
+        if (hit) return;
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (BufferedWriter w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                w.write("version=" + VERSION); w.newLine();
+                w.write("fingerprint=" + fingerprint); w.newLine();
+                for (String c : components) { w.write("component=" + c); w.newLine(); }
+                for (Injection i : injections) {
+                    w.write("inject=" + String.join(SEP, i.beanClass(), i.fieldName(), i.dependencyType()));
+                    w.newLine();
+                }
+                for (String a : autoConfigurations) { w.write("autoconf=" + a); w.newLine(); }
+                for (Route r : routes) {
+                    w.write("route=" + String.join(SEP, r.httpMethod(), r.path(), r.beanClass(), r.methodName(),
+                            String.join(",", r.parameterTypes())));
+                    w.newLine();
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Startup snapshot written to " + file);
+        } catch (IOException e) {
+            // 스냅샷은 최적화일 뿐이므로 기동을 막지 않는다
+            log.warn("Failed to write startup snapshot: " + e.getMessage());
+        }
+    }
+
+    private void read() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try (BufferedReader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            boolean versionOk = false;
+            boolean fingerprintOk = false;
+            while ((line = r.readLine()) != null) {
+                int idx = line.indexOf('=');
+                if (idx < 0) continue;
+                String key = line.substring(0, idx);
+                String value = line.substring(idx + 1);
+                switch (key) {
+                    case "version" -> versionOk = VERSION.equals(value);
+                    case "fingerprint" -> fingerprintOk = fingerprint.equals(value);
+                    case "component" -> components.add(value);
+                    case "inject" -> {
+                        String[] f = value.split("\\" + SEP, -1);
+                        injections.add(new Injection(f[0], f[1], f[2]));
+                    }
+                    case "autoconf" -> autoConfigurations.add(value);
+                    case "route" -> {
+                        String[] f = value.split("\\" + SEP, -1);
+                        List<String> params = f[4].isEmpty() ? List.of() : List.of(f[4].split(","));
+                        routes.add(new Route(f[0], f[1], f[2], f[3], params));
+                    }
+                    default -> { }
+                }
+            }
+            hit = versionOk && fingerprintOk;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable startup snapshot: " + e.getMessage());
+            hit = false;
+        }
+        if (!hit) {
+            invalidate();
+        }
+        log.info("Startup snapshot " + (hit ? "hit" : "miss") + ": " + file);
+    }
+
+    /**
+     * 클래스패스, 애플리케이션 프로퍼티, 기준 패키지 아래 클래스 파일(경로/크기/수정 시각)로 지문을 만든다.
+     * 클래스를 로딩하지 않고 파일 속성만 읽으므로 스캔보다 훨씬 싸다.
+     */
+    private static String fingerprint(Environment env, String basePackage) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            update(md, VERSION);
+            update(md, System.getProperty("java.version", ""));
+            update(md, System.getProperty("java.class.path", ""));
+            update(md, basePackage);
+            for (String key : new TreeSet<>(env.getKeys())) {
+                update(md, key + "=" + env.getRaw(key));
+            }
+
+            URL url = Thread.currentThread().getContextClassLoader().getResource(basePackage.replace('.', '/'));
+            if (url == null) return null;
+            Path root = Paths.get(url.toURI());
+            List<String> entries = new ArrayList<>();
+            try (Stream<Path> paths = Files.walk(root)) {
+                for (Path p : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                    entries.add(root.relativize(p) + ":" + Files.size(p) + ":" + Files.getLastModifiedTime(p).toMillis());
+                }
+            }
+            Collections.sort(entries);
+            for (String e : entries) update(md, e);
+
+            URL services = Thread.currentThread().getContextClassLoader()
+                    .getResource("META-INF/services/com.winter.winterboot.core.autoconf.AutoConfiguration");
+            if (services != null) {
+                try (var in = services.openStream()) { md.update(in.readAllBytes()); }
+            }
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException | URISyntaxException | IOException | RuntimeException e) {
+            // jar 내부 등 파일 시스템으로 접근할 수 없는 경우 스냅샷을 사용하지 않는다
+            log.info("Startup snapshot disabled: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void update(MessageDigest md, String s) {
+        md.update(s.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) '\n');
+    }
+
+    public record Injection(String beanClass, String fieldName, String dependencyType) { }
+
+    public record Route(String httpMethod, String path, String beanClass, String methodName,
+                        List<String> parameterTypes) { }
+}
@@ -1,37 +1,53 @@
 package com.winter.winterboot.core.autoconf;
 
 import com.winter.winterboot.core.ApplicationContext;
+import com.winter.winterboot.core.aot.StartupSnapshot;
 import com.winter.winterboot.core.env.Environment;
 import com.winter.winterboot.core.condition.ConditionalOnClass;
 import com.winter.winterboot.core.condition.ConditionalOnProperty;
 import com.winter.winterboot.core.condition.ConditionEvaluator;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
 
 import java.util.ServiceLoader;
 
 public class AutoConfigurationLoader {
 
+    private static final Logger log = LoggerFactory.getLogger(AutoConfigurationLoader.class);
+
     public static void load(ApplicationContext ctx, Environment env) {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         ServiceLoader<AutoConfiguration> loader = ServiceLoader.load(AutoConfiguration.class, cl);
+        StartupSnapshot snapshot = ctx.getStartupSnapshot();
+        boolean replay = snapshot != null && snapshot.isHit();
 
-        for (AutoConfiguration ac : loader) {
-            Class<?> clazz = ac.getClass();
+        // Provider.type()으로 조건을 먼저 확인하고, 통과한 구성만 인스턴스화
+        for (ServiceLoader.Provider<AutoConfiguration> provider : (Iterable<ServiceLoader.Provider<AutoConfiguration>>) loader.stream()::iterator) {
+            Class<?> clazz = provider.type();
 
-            // 1) @ConditionalOnClass
-            ConditionalOnClass coc = clazz.getAnnotation(ConditionalOnClass.class);
-            if (coc != null && !ConditionEvaluator.matchesConditionalOnClass(cl, coc.value())) {
-                System.out.println("[AutoConfig] Skip " + clazz.getSimpleName() + " (missing class)");
-                continue;
-            }
+            if (replay) {
+                // 스냅샷에 기록된 조건 평가 결과를 재사용
+                if (!snapshot.getAutoConfigurations().contains(clazz.getName())) {
+                    continue;
+                }
+            } else {
+                // 1) @ConditionalOnClass
+                ConditionalOnClass coc = clazz.getAnnotation(ConditionalOnClass.class);
+                if (coc != null && !ConditionEvaluator.matchesConditionalOnClass(cl, coc.value())) {
+                    log.info("Skip " + clazz.getSimpleName() + " (missing class)");
+                    continue;
+                }
 
-            // 2) @ConditionalOnProperty
-            ConditionalOnProperty cop = clazz.getAnnotation(ConditionalOnProperty.class);
-            if (cop != null && !ConditionEvaluator.matchesConditionalOnProperty(
-                    env, cop.prefix(), cop.name(), cop.havingValue(), cop.matchIfMissing())) {
-                System.out.println("[AutoConfig] Skip " + clazz.getSimpleName() + " (property not matched)");
-                continue;
+                // 2) @ConditionalOnProperty
+                ConditionalOnProperty cop = clazz.getAnnotation(ConditionalOnProperty.class);
+                if (cop != null && !ConditionEvaluator.matchesConditionalOnProperty(
+                        env, cop.prefix(), cop.name(), cop.havingValue(), cop.matchIfMissing())) {
+                    log.info("Skip " + clazz.getSimpleName() + " (property not matched)");
+                    continue;
+                }
+                if (snapshot != null) snapshot.recordAutoConfiguration(clazz);
             }
-            ac.apply(ctx, env);
+            provider.get().apply(ctx, env);
         }
     }
 }
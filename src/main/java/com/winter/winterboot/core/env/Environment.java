@@ -2,6 +2,7 @@ package com.winter.winterboot.core.env;
 
 import java.io.IOException;
 import java.util.Properties;
+import java.util.Set;
 
 public class Environment {
     private final Properties props = new Properties();
@@ -13,6 +14,10 @@ public class Environment {
         } catch (IOException e) {
             throw new RuntimeException("Failed to load application.properties", e);
         }
+        // -Dkey=value 시스템 프로퍼티가 application.properties보다 우선 (한 머신에서 여러 인스턴스 실행 시 포트 등 지정)
+        for (String key : System.getProperties().stringPropertyNames()) {
+            props.setProperty(key, System.getProperty(key));
+        }
     }
 
     public String get(String key, String def) {
@@ -29,4 +34,5 @@ public class Environment {
 
     public String getRaw(String key) { return props.getProperty(key); }
     public boolean hasKey(String key) { return props.containsKey(key); }
+    public Set<String> getKeys() { return props.stringPropertyNames(); }
 }
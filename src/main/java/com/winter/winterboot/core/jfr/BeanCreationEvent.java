@@ -0,0 +1,18 @@
+package com.winter.winterboot.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** ApplicationContext의 빈 생성 한 건. 기동 시점 이벤트라 -XX:StartFlightRecording으로 시작한 기록에서 보인다. */
+@Name("winterboot.BeanCreation")
+@Label("Bean Creation")
+@Category("WinterBoot")
+@StackTrace(false)
+public class BeanCreationEvent extends Event {
+
+    @Label("Bean Class")
+    public String beanClass;
+}
@@ -0,0 +1,31 @@
+package com.winter.winterboot.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** DispatcherHandler가 처리한 HTTP 요청 하나. 기록 중이 아닐 때는 객체를 만들지 않도록 {@link #isRecording()}으로 먼저 확인한다. */
+@Name("winterboot.Request")
+@Label("HTTP Request")
+@Category("WinterBoot")
+@StackTrace(false)
+public class RequestEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(RequestEvent.class);
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Status")
+    public int status;
+
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,134 @@
+package com.winter.winterboot.core.log;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그 이벤트를 크기 제한이 있는 락 없는 큐에 쌓고, 전용 데몬 스레드가 묶음으로 꺼내 한 번에 쓰고 flush한다.
+ * 큐가 가득 차면 호출 스레드를 막지 않고 이벤트를 버린 뒤 개수만 센다.
+ */
+public class AsyncAppender {
+
+    private static final DateTimeFormatter TIME =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final ConcurrentLinkedQueue<LogEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int capacity;
+    private final int batchSize;
+    private final Writer out;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private volatile boolean parked;
+    private long reportedDropped;
+
+    public AsyncAppender(Writer out, int capacity, int batchSize) {
+        this.out = out;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.worker = new Thread(this::drainLoop, "winter-log-appender");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    void append(LogEvent event) {
+        // 자리 예약에 성공한 경우에만 넣는다 (CAS로 용량 제한)
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+
+        queue.offer(event);
+        if (parked) LockSupport.unpark(worker);
+    }
+
+    public long getDropped() { return dropped.get(); }
+
+    public int getQueueSize() { return size.get(); }
+
+    /** 남은 이벤트를 모두 쓰고 스레드를 멈춘다. */
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        StringBuilder sb = new StringBuilder(4096);
+        while (true) {
+            int written = drainBatch(sb);
+            if (written > 0) continue;
+            if (!running) break;
+
+            parked = true;
+            if (queue.isEmpty() && running) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            }
+            parked = false;
+        }
+        while (drainBatch(sb) > 0) { }
+        try {
+            out.flush();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private int drainBatch(StringBuilder sb) {
+        sb.setLength(0);
+        int n = 0;
+        LogEvent e;
+        while (n < batchSize && (e = queue.poll()) != null) {
+            size.decrementAndGet();
+            format(sb, e);
+            n++;
+        }
+        long d = dropped.get();
+        if (d != reportedDropped) {
+            sb.append(TIME.format(Instant.now())).append(" WARN  [winter-log-appender] AsyncAppender - ")
+                    .append(d - reportedDropped).append(" log events dropped (queue full, total ")
+                    .append(d).append(")").append(System.lineSeparator());
+            reportedDropped = d;
+        }
+        if (sb.length() == 0) return 0;
+        try {
+            out.write(sb.toString());
+            out.flush();
+        } catch (IOException ignored) {
+            // 로그 출력 실패로 애플리케이션을 멈추지 않는다
+        }
+        return Math.max(n, 1);
+    }
+
+    private static void format(StringBuilder sb, LogEvent e) {
+        sb.append(TIME.format(Instant.ofEpochMilli(e.epochMillis()))).append(' ')
+                .append(String.format("%-5s", e.level())).append(" [").append(e.threadName()).append("] ")
+                .append(e.loggerName()).append(" - ").append(e.message()).append(System.lineSeparator());
+        Throwable t = e.throwable();
+        if (t == null) return;
+        if (e.printStackTrace()) {
+            var sw = new java.io.StringWriter();
+            t.printStackTrace(new PrintWriter(sw));
+            sb.append(sw);
+        } else {
+            sb.append("    ").append(t).append(" (stack trace suppressed, repeated)").append(System.lineSeparator());
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.winter.winterboot.core.log;
+
+/** 호출 스레드에서 만들어 큐에 넣는 불변 이벤트. 스택 트레이스 포맷팅은 appender 스레드에서 한다. */
+record LogEvent(long epochMillis, LogLevel level, String threadName, String loggerName,
+                String message, Throwable throwable, boolean printStackTrace) {
+}
@@ -0,0 +1,5 @@
+package com.winter.winterboot.core.log;
+
+public enum LogLevel {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF
+}
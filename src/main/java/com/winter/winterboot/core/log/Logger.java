@@ -0,0 +1,51 @@
+package com.winter.winterboot.core.log;
+
+/**
+ * 프레임워크 공용 로거. 레벨 검사 후 메시지를 포맷해 {@link AsyncAppender} 큐에 넣기만 하므로
+ * 호출 스레드는 I/O나 락을 기다리지 않는다. 포맷 문자열은 {@link String#format} 문법을 쓴다.
+ */
+public class Logger {
+
+    private final String name;
+
+    Logger(String name) {
+        this.name = name;
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level.compareTo(LoggerFactory.getLevel()) >= 0 && level != LogLevel.OFF;
+    }
+
+    public boolean isDebugEnabled() { return isEnabled(LogLevel.DEBUG); }
+
+    public void debug(String message) { log(LogLevel.DEBUG, message, null); }
+    public void debug(String format, Object... args) { logf(LogLevel.DEBUG, format, args); }
+
+    public void info(String message) { log(LogLevel.INFO, message, null); }
+    public void info(String format, Object... args) { logf(LogLevel.INFO, format, args); }
+
+    public void warn(String message) { log(LogLevel.WARN, message, null); }
+    public void warn(String format, Object... args) { logf(LogLevel.WARN, format, args); }
+    public void warn(String message, Throwable t) { log(LogLevel.WARN, message, t); }
+
+    public void error(String message) { log(LogLevel.ERROR, message, null); }
+    public void error(String format, Object... args) { logf(LogLevel.ERROR, format, args); }
+
+    /**
+     * 같은 종류의 예외(예외 클래스 + 발생 위치)는 일정 간격에 한 번만 전체 스택을 남기고
+     * 나머지는 한 줄 요약만 남긴다. 에러 폭주 시 스택 포맷팅 비용을 막기 위함.
+     */
+    public void error(String message, Throwable t) { log(LogLevel.ERROR, message, t); }
+
+    private void logf(LogLevel level, String format, Object... args) {
+        if (!isEnabled(level)) return;
+        log(level, String.format(format, args), null);
+    }
+
+    private void log(LogLevel level, String message, Throwable t) {
+        if (!isEnabled(level)) return;
+        boolean printStackTrace = t != null && LoggerFactory.getStackTraceLimiter().tryAcquire(t);
+        LoggerFactory.getAppender().append(new LogEvent(System.currentTimeMillis(), level,
+                Thread.currentThread().getName(), name, message, t, printStackTrace));
+    }
+}
@@ -0,0 +1,90 @@
+package com.winter.winterboot.core.log;
+
+import com.winter.winterboot.core.env.Environment;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로거 생성과 전역 로깅 설정. {@link #configure}가 호출되기 전에는 INFO 레벨, 콘솔 출력으로 동작한다.
+ */
+public final class LoggerFactory {
+
+    private static volatile LogLevel level = LogLevel.INFO;
+    private static volatile AsyncAppender appender;
+    private static volatile StackTraceLimiter stackTraceLimiter = new StackTraceLimiter(10_000);
+
+    static {
+        // 종료 시 큐에 남은 로그를 모두 쓴다
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            AsyncAppender a = appender;
+            if (a != null) a.close();
+        }, "winter-log-shutdown"));
+    }
+
+    private LoggerFactory() {}
+
+    public static Logger getLogger(Class<?> type) {
+        return new Logger(type.getSimpleName());
+    }
+
+    public static Logger getLogger(String name) {
+        return new Logger(name);
+    }
+
+    /**
+     * logging.level, logging.file, logging.queue-capacity, logging.batch-size,
+     * logging.stacktrace-interval-ms 를 읽어 설정을 바꾼다.
+     */
+    public static synchronized void configure(Environment env) {
+        level = LogLevel.valueOf(env.get("logging.level", "INFO").trim().toUpperCase());
+        stackTraceLimiter = new StackTraceLimiter(env.getInt("logging.stacktrace-interval-ms", 10_000));
+
+        int capacity = env.getInt("logging.queue-capacity", 8192);
+        int batchSize = env.getInt("logging.batch-size", 256);
+        String file = env.get("logging.file", null);
+        Writer out;
+        try {
+            out = (file == null || file.isBlank()) ? consoleWriter() : fileWriter(Paths.get(file));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open log file: " + file, e);
+        }
+
+        AsyncAppender previous = appender;
+        appender = new AsyncAppender(out, capacity, batchSize);
+        if (previous != null) previous.close();
+    }
+
+    static LogLevel getLevel() { return level; }
+
+    static StackTraceLimiter getStackTraceLimiter() { return stackTraceLimiter; }
+
+    public static AsyncAppender getAppender() {
+        AsyncAppender a = appender;
+        if (a == null) {
+            synchronized (LoggerFactory.class) {
+                if (appender == null) {
+                    appender = new AsyncAppender(consoleWriter(), 8192, 256);
+                }
+                a = appender;
+            }
+        }
+        return a;
+    }
+
+    private static Writer consoleWriter() {
+        return new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+    }
+
+    private static Writer fileWriter(Path path) throws IOException {
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        return Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
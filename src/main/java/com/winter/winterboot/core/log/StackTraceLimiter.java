@@ -0,0 +1,37 @@
+package com.winter.winterboot.core.log;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** 예외 종류별로 intervalMillis에 한 번만 전체 스택 트레이스 출력을 허용한다. */
+class StackTraceLimiter {
+
+    private static final int MAX_KEYS = 1024;
+
+    private final long intervalMillis;
+    private final ConcurrentHashMap<String, AtomicLong> lastPrinted = new ConcurrentHashMap<>();
+
+    StackTraceLimiter(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    boolean tryAcquire(Throwable t) {
+        if (intervalMillis <= 0) return true;
+        String key = keyOf(t);
+        long now = System.currentTimeMillis();
+        AtomicLong last = lastPrinted.get(key);
+        if (last == null) {
+            if (lastPrinted.size() >= MAX_KEYS) lastPrinted.clear();
+            last = lastPrinted.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+        long prev = last.get();
+        return (prev == Long.MIN_VALUE || now - prev >= intervalMillis) && last.compareAndSet(prev, now);
+    }
+
+    private static String keyOf(Throwable t) {
+        Throwable root = t;
+        while (root.getCause() != null && root.getCause() != root) root = root.getCause();
+        StackTraceElement[] st = root.getStackTrace();
+        return root.getClass().getName() + "@" + (st.length > 0 ? st[0].toString() : "");
+    }
+}
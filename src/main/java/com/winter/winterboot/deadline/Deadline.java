@@ -0,0 +1,91 @@
+package com.winter.winterboot.deadline;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요청 단위 제한 시간. 핸들러 파라미터로 선언하면 주입되며, 긴 루프나 저장소 스캔에서
+ * {@link #check()} 또는 {@link #isExpired()}로 확인해 일찍 멈출 수 있다.
+ * 제한 시간이 없는 요청에는 {@link #NONE}이 주입된다.
+ */
+public class Deadline {
+
+    /** 제한 없음 */
+    public static final Deadline NONE = new Deadline(0);
+
+    private final long timeoutMillis;
+    private final long expiresAtNanos;
+
+    // 응답은 작업 스레드와 타이머 중 먼저 차지한 쪽만 보낸다
+    private final AtomicBoolean responded = new AtomicBoolean();
+    private volatile boolean timedOut;
+    private Thread worker;
+    // 만료 시 교환은 504를 다 쓴 타이머와 처리를 끝낸 작업 스레드 중 나중에 도착한 쪽이 닫는다
+    private int arrivals;
+    ScheduledFuture<?> timer;
+    Runnable release;
+
+    Deadline(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    public long getTimeoutMillis() { return timeoutMillis; }
+
+    public boolean isBounded() { return timeoutMillis > 0; }
+
+    /** 남은 시간(ms). 제한이 없으면 Long.MAX_VALUE */
+    public long remainingMillis() {
+        if (!isBounded()) return Long.MAX_VALUE;
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return timedOut || (isBounded() && System.nanoTime() - expiresAtNanos >= 0);
+    }
+
+    /** 만료됐으면 {@link DeadlineExceededException}을 던진다 */
+    public void check() {
+        if (isExpired()) throw new DeadlineExceededException(timeoutMillis);
+    }
+
+    /** 타이머가 이미 504를 보냈는지 */
+    public boolean isTimedOut() { return timedOut; }
+
+    boolean claimResponse() {
+        return responded.compareAndSet(false, true);
+    }
+
+    // 바인드/만료/해제를 같은 락으로 묶어 다음 요청을 처리 중인 스레드가 인터럽트되지 않게 한다
+    synchronized boolean bind(Thread thread) {
+        if (timedOut) return false;
+        worker = thread;
+        return true;
+    }
+
+    /** @return 타이머가 504를 보냈는지 */
+    synchronized boolean unbind() {
+        worker = null;
+        return timedOut;
+    }
+
+    /**
+     * 응답을 차지했으면 만료 처리하고 true. 작업 스레드가 먼저 응답했으면 false.
+     * 인터럽트는 504를 보낸 뒤 {@link #interruptWorker()}로 한다 (본문을 읽던 중이면 인터럽트가 소켓 채널을 닫는다)
+     */
+    synchronized boolean expire() {
+        if (!claimResponse()) return false;
+        timedOut = true;
+        return true;
+    }
+
+    synchronized void interruptWorker() {
+        if (worker != null) worker.interrupt();
+    }
+
+    /** @return 상대가 이미 도착했으면 true (호출한 쪽이 교환을 닫는다) */
+    synchronized boolean arrive() {
+        return ++arrivals == 2;
+    }
+}
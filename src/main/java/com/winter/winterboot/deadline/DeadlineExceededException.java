@@ -0,0 +1,11 @@
+package com.winter.winterboot.deadline;
+
+import com.winter.winterboot.ResponseStatusException;
+
+/** {@link Deadline#check()}에서 제한 시간이 지났을 때 던진다. 504로 응답된다. */
+public class DeadlineExceededException extends ResponseStatusException {
+
+    public DeadlineExceededException(long timeoutMillis) {
+        super(504, "Deadline exceeded (" + timeoutMillis + " ms)");
+    }
+}
@@ -0,0 +1,28 @@
+package com.winter.winterboot.deadline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** 제한 시간 초과/지연 완료 집계를 JSON으로 반환 */
+public class DeadlineStatusHandler implements HttpHandler {
+
+    private final DeadlineTimer timer;
+    private final ObjectMapper objectMapper;
+
+    public DeadlineStatusHandler(DeadlineTimer timer, ObjectMapper objectMapper) {
+        this.timer = timer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(timer.stats());
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) { os.write(body); }
+    }
+}
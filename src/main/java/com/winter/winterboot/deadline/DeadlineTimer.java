@@ -0,0 +1,136 @@
+package com.winter.winterboot.deadline;
+
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 제한 시간을 관리한다. 만료되면 타이머 스레드가 작업 스레드보다 먼저 응답을 차지해 504를 보내고
+ * 핸들러 스레드를 인터럽트한다. 이후 끝난 핸들러의 응답은 버려지고 지연 완료로 집계된다.
+ * <p>
+ * 타이머 스레드는 교환을 닫지 않는다. 닫을 때 남은 요청 본문을 비우느라 느린 클라이언트에 막힐 수 있기 때문이다.
+ * 504를 쓴 타이머와 처리를 끝낸 작업 스레드 중 나중 쪽이 release를 실행한다.
+ */
+public class DeadlineTimer {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineTimer.class);
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final LongAdder started = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder expiredInQueue = new LongAdder();
+    private final LongAdder lateCompletions = new LongAdder();
+
+    public DeadlineTimer() {
+        this.scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "winter-deadline-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        // 대부분의 요청은 제한 시간 전에 끝나므로 취소된 작업을 큐에 남겨두지 않는다
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * @param onTimeout 만료 시 타이머 스레드에서 실행 (504 전송, 교환은 닫지 않는다). 응답을 차지한 경우에만 호출된다
+     * @param release   만료된 요청의 교환을 닫는다. 타이머와 작업 스레드가 모두 끝난 뒤 한 번만 실행된다
+     */
+    public Deadline start(long timeoutMillis, Runnable onTimeout, Runnable release) {
+        Deadline deadline = new Deadline(timeoutMillis);
+        deadline.release = release;
+        started.increment();
+        deadline.timer = scheduler.schedule(() -> expire(deadline, onTimeout), timeoutMillis, TimeUnit.MILLISECONDS);
+        return deadline;
+    }
+
+    private void expire(Deadline deadline, Runnable onTimeout) {
+        if (!deadline.expire()) return; // 이미 정상 응답함
+        timedOut.increment();
+        try {
+            onTimeout.run();
+        } catch (RuntimeException e) {
+            log.warn("Failed to send timeout response: " + e.getMessage());
+        }
+        // 504를 보낸 뒤에 인터럽트한다. 먼저 하면 본문을 읽던 작업 스레드의 채널이 닫혀 504를 쓸 수 없다
+        deadline.interruptWorker();
+        arrive(deadline);
+    }
+
+    private void arrive(Deadline deadline) {
+        if (!deadline.arrive()) return;
+        try {
+            deadline.release.run();
+        } catch (RuntimeException e) {
+            log.warn("Failed to release timed out exchange: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 스레드가 요청 처리를 시작할 때 호출.
+     * @return 대기 중에 이미 만료돼 504가 나갔으면 false (실행하지 않고 버린다)
+     */
+    public boolean enter(Deadline deadline) {
+        if (!deadline.bind(Thread.currentThread())) {
+            expiredInQueue.increment();
+            arrive(deadline);
+            return false;
+        }
+        return true;
+    }
+
+    /** 처리가 끝나면 호출. 인터럽트 상태를 지워 풀 스레드의 다음 요청에 남지 않게 한다 */
+    public void exit(Deadline deadline) {
+        boolean late = deadline.unbind();
+        Thread.interrupted();
+        if (late) {
+            lateCompletions.increment();
+            arrive(deadline);
+        } else {
+            deadline.timer.cancel(false);
+        }
+    }
+
+    /**
+     * 다른 요청과 결과를 공유하는 작업(SingleFlight leader)을 시작할 때 호출.
+     * 이후 이 요청이 만료돼도 504만 보내고 스레드는 인터럽트하지 않는다 (합류한 요청들이 실패하지 않도록).
+     * 따라서 멈춘 공유 작업은 제한 시간으로 끝나지 않고 스레드를 계속 점유한다.
+     */
+    public void detachForSharedWork(Deadline deadline) {
+        deadline.unbind();
+        // 분리 직전에 들어온 인터럽트는 이 요청의 만료로 인한 것이므로 지운다
+        Thread.interrupted();
+    }
+
+    /** 응답을 보낼 권한을 얻는다. 타이머가 먼저 504를 보냈으면 false */
+    public boolean claimResponse(Deadline deadline) {
+        return deadline.claimResponse();
+    }
+
+    /** 핸들러가 {@link Deadline#check()}로 스스로 멈춰 504를 보낸 경우 */
+    public void recordCooperativeTimeout() {
+        timedOut.increment();
+    }
+
+    /** 집계를 0으로 되돌린다 (워밍업 뒤) */
+    public void resetStats() {
+        started.reset();
+        timedOut.reset();
+        expiredInQueue.reset();
+        lateCompletions.reset();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("started", started.sum());
+        out.put("timedOut", timedOut.sum());
+        out.put("expiredInQueue", expiredInQueue.sum());
+        out.put("lateCompletions", lateCompletions.sum());
+        out.put("pendingTimers", scheduler.getQueue().size());
+        return out;
+    }
+}
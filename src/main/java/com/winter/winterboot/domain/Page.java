@@ -0,0 +1,14 @@
+package com.winter.winterboot.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class Page<T> {
+    private List<T> items;
+    // 다음 페이지가 없으면 null
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.winter.winterboot.replication;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 리더의 쓰기 로그로 팔로워에 복제될 수 있는 저장소.
+ * 쓰기 리스너는 로컬 반영 직전에 호출되며, 예외를 던지면 쓰기가 취소된다(팔로워의 쓰기 거부에 사용).
+ */
+public interface Replicable {
+
+    /** 로그 항목에 붙는 저장소 이름. 같은 이름의 저장소끼리 복제된다. */
+    default String replicationName() {
+        return getClass().getSimpleName();
+    }
+
+    void setWriteListener(Consumer<String> listener);
+
+    /** 팔로워에서 리더의 쓰기를 반영. 쓰기 리스너를 거치지 않는다. */
+    void applyReplicated(String payload);
+
+    /**
+     * 현재 상태 전체를 {@link #applyReplicated}로 다시 반영할 수 있는 payload 목록으로 내보낸다.
+     * 진행 중인 쓰기가 없는 시점을 잡아 그동안 atConsistentPoint를 한 번 호출한다
+     * (리더는 여기서 로그 head를 읽어 스냅샷이 어느 seq까지 포함하는지 기록한다).
+     */
+    List<String> snapshot(Runnable atConsistentPoint);
+
+    /** 팔로워 전체 재동기화 전에 모든 데이터를 지운다. */
+    void clearReplicated();
+}
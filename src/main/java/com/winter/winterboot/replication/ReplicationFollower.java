@@ -0,0 +1,179 @@
+package com.winter.winterboot.replication;
+
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 리더에 접속해 쓰기 로그를 받아 로컬 저장소에 비동기로 반영한다.
+ * 연결이 끊기면 마지막으로 반영한 seq 다음부터 다시 요청해 따라잡는다.
+ * 리더의 logId가 바뀌었거나(재시작) 필요한 항목이 남아 있지 않으면 리더가 보낸 스냅샷으로 전체 재동기화한다.
+ * 재동기화 중에는 저장소가 비었다가 채워지므로 읽기가 일부 데이터만 볼 수 있다.
+ */
+public class ReplicationFollower {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicationFollower.class);
+    private static final long MAX_BACKOFF_MILLIS = 5000;
+
+    private final String leaderHost;
+    private final int leaderPort;
+    private final Map<String, Replicable> stores;
+
+    // 스냅샷을 끝까지 받은 리더 로그. null이면 다음 접속에서 전체 재동기화를 요청한다
+    private volatile String logId;
+    private volatile long appliedSeq;
+    private volatile long leaderHeadSeq;
+    private volatile long lastContactMillis;
+    private volatile boolean connected;
+    private volatile long resyncs;
+    private volatile boolean closed;
+    private volatile Socket socket;
+    // 스냅샷이 이미 포함한 저장소별 seq. 이하의 로그 항목은 다시 반영하지 않는다
+    private final Map<String, Long> snapshotSeqs = new HashMap<>();
+
+    public ReplicationFollower(String leaderHost, int leaderPort, Map<String, Replicable> stores) {
+        this.leaderHost = leaderHost;
+        this.leaderPort = leaderPort;
+        this.stores = stores;
+        Thread t = new Thread(this::runLoop, "winter-repl-follow");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    public long getLag() {
+        return Math.max(0, leaderHeadSeq - appliedSeq);
+    }
+
+    public long getAppliedSeq() { return appliedSeq; }
+
+    public String getLogId() { return logId; }
+
+    public void close() throws IOException {
+        closed = true;
+        Socket s = socket;
+        if (s != null) s.close();
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("role", "follower");
+        out.put("leader", leaderHost + ":" + leaderPort);
+        out.put("connected", connected);
+        out.put("logId", logId);
+        out.put("resyncs", resyncs);
+        out.put("appliedSeq", appliedSeq);
+        out.put("leaderHeadSeq", leaderHeadSeq);
+        out.put("lag", getLag());
+        out.put("millisSinceLastContact", lastContactMillis == 0 ? -1 : System.currentTimeMillis() - lastContactMillis);
+        return out;
+    }
+
+    private void runLoop() {
+        long backoff = 100;
+        while (!closed) {
+            try (Socket socket = new Socket()) {
+                this.socket = socket;
+                socket.connect(new InetSocketAddress(leaderHost, leaderPort), 3000);
+                socket.setSoTimeout(10_000); // heartbeat가 끊기면 재접속
+                connected = true;
+                backoff = 100;
+                follow(socket);
+            } catch (IOException e) {
+                if (!closed) log.info("Replication connection to %s:%d lost: %s", leaderHost, leaderPort, e.getMessage());
+            } finally {
+                connected = false;
+                this.socket = null;
+            }
+            if (closed) return;
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoff = Math.min(MAX_BACKOFF_MILLIS, backoff * 2);
+        }
+    }
+
+    private void follow(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        String current = logId;
+        out.write("FROM " + (current != null ? current : "-") + " " + (appliedSeq + 1));
+        out.newLine();
+        out.flush();
+        log.info("Following %s:%d log %s from seq %d", leaderHost, leaderPort, current, appliedSeq + 1);
+
+        String pendingLogId = null;
+        String line;
+        while ((line = in.readLine()) != null) {
+            lastContactMillis = System.currentTimeMillis();
+            if (line.startsWith("H ")) {
+                leaderHeadSeq = Long.parseLong(line.substring(2).trim());
+                continue;
+            }
+            if (line.startsWith("R ")) {
+                // 스냅샷을 끝까지 받기 전에 끊기면 다음 접속에서 다시 전체 재동기화한다
+                pendingLogId = line.substring(2).trim();
+                logId = null;
+                appliedSeq = 0;
+                snapshotSeqs.clear();
+                stores.values().forEach(Replicable::clearReplicated);
+                resyncs++;
+                log.info("Full resync from leader log %s", pendingLogId);
+                continue;
+            }
+            if (line.startsWith("B ")) {
+                String[] f = line.split(" ");
+                snapshotSeqs.put(f[1], Long.parseLong(f[2]));
+                continue;
+            }
+            if (line.startsWith("P ")) {
+                int s1 = line.indexOf(' ', 2);
+                Replicable target = stores.get(line.substring(2, s1));
+                if (target != null) target.applyReplicated(line.substring(s1 + 1));
+                continue;
+            }
+            if (line.startsWith("D ")) {
+                if (pendingLogId == null) throw new IOException("Snapshot end without start");
+                appliedSeq = Long.parseLong(line.substring(2).trim());
+                if (appliedSeq > leaderHeadSeq) leaderHeadSeq = appliedSeq;
+                logId = pendingLogId;
+                log.info("Resync complete at seq %d", appliedSeq);
+                continue;
+            }
+            if (!line.startsWith("E ")) continue;
+
+            // E <seq> <store> <payload>
+            int s1 = line.indexOf(' ', 2);
+            int s2 = line.indexOf(' ', s1 + 1);
+            long seq = Long.parseLong(line.substring(2, s1));
+            if (seq != appliedSeq + 1) {
+                throw new IOException("Out of order replication entry: expected " + (appliedSeq + 1) + " but got " + seq);
+            }
+            String store = line.substring(s1 + 1, s2);
+            Replicable target = stores.get(store);
+            Long coveredBySnapshot = snapshotSeqs.get(store);
+            if (coveredBySnapshot != null && seq <= coveredBySnapshot) {
+                // 스냅샷에 이미 반영된 쓰기
+            } else if (target != null) {
+                target.applyReplicated(line.substring(s2 + 1));
+            } else {
+                log.warn("No replicated store named %s, skipping seq %d", store, seq);
+            }
+            appliedSeq = seq;
+            if (seq > leaderHeadSeq) leaderHeadSeq = seq;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.winter.winterboot.replication;
+
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.SecureRandom;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 팔로워 접속을 받아 쓰기 로그를 TCP로 전송한다.
+ * <pre>
+ * follower → leader : FROM &lt;logId|-&gt; &lt;seq&gt;
+ * leader → follower : E &lt;seq&gt; &lt;store&gt; &lt;payload&gt;   (로그 항목)
+ *                     H &lt;headSeq&gt;                    (전송할 때마다 마지막 줄. 보낼 항목이 없으면 heartbeat)
+ * 전체 재동기화      : R &lt;logId&gt;                      (팔로워는 모든 저장소를 비운다)
+ *                     B &lt;store&gt; &lt;seq&gt;              (이 저장소의 스냅샷은 seq까지 포함)
+ *                     P &lt;store&gt; &lt;payload&gt;          (스냅샷 항목)
+ *                     D &lt;seq&gt;                        (스냅샷 끝, 이후 seq+1부터 E 전송)
+ * </pre>
+ * logId는 리더가 뜰 때마다 새로 만든다. 팔로워의 logId가 다르거나(리더 재시작) seq가 보관 중인 로그 범위를
+ * 벗어나면(오래 끊겨 있었거나 전송이 로그 정리 속도를 못 따라감) 전체 재동기화를 한다.
+ */
+public class ReplicationLeader {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicationLeader.class);
+    private static final int BATCH = 256;
+    private static final long HEARTBEAT_MILLIS = 1000;
+
+    private final ReplicationLog replicationLog;
+    private final Map<String, Replicable> stores;
+    private final String logId = Long.toHexString(new SecureRandom().nextLong());
+    private final ServerSocket serverSocket;
+    private final Thread acceptor;
+    private final Map<String, AtomicLong> shippedByFollower = new ConcurrentHashMap<>();
+    private final Set<Socket> followerSockets = ConcurrentHashMap.newKeySet();
+    private final LongAdder snapshotsSent = new LongAdder();
+
+    public ReplicationLeader(ReplicationLog replicationLog, Map<String, Replicable> stores,
+                             String address, int port) throws IOException {
+        this.replicationLog = replicationLog;
+        this.stores = stores;
+        this.serverSocket = new ServerSocket();
+        // 재시작 직후 TIME_WAIT 연결이 남아 있어도 같은 포트로 다시 뜰 수 있게 한다
+        this.serverSocket.setReuseAddress(true);
+        this.serverSocket.bind(new InetSocketAddress(address, port));
+        this.acceptor = new Thread(this::acceptLoop, "winter-repl-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("Replication leader listening on %s:%d (log %s)", address, getPort(), logId);
+    }
+
+    public ReplicationLog getReplicationLog() { return replicationLog; }
+
+    public String getLogId() { return logId; }
+
+    public int getPort() { return serverSocket.getLocalPort(); }
+
+    /** 접속을 더 받지 않고 연결된 팔로워를 모두 끊는다. 반환 후에는 같은 포트로 새 리더를 띄울 수 있다 */
+    public void close() throws IOException {
+        serverSocket.close();
+        // accept 중인 스레드가 빠져나가야 소켓이 실제로 닫힌다
+        try {
+            acceptor.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Socket s : followerSockets) {
+            try {
+                s.close();
+            } catch (IOException ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+    }
+
+    public Map<String, Object> status() {
+        long head = replicationLog.headSeq();
+        List<Map<String, Object>> followers = new ArrayList<>();
+        shippedByFollower.forEach((addr, shipped) -> {
+            Map<String, Object> f = new LinkedHashMap<>();
+            f.put("address", addr);
+            f.put("shippedSeq", shipped.get());
+            f.put("lag", head - shipped.get());
+            followers.add(f);
+        });
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("role", "leader");
+        out.put("logId", logId);
+        out.put("headSeq", head);
+        out.put("oldestSeq", replicationLog.oldestSeq());
+        out.put("retainedBytes", replicationLog.retainedBytes());
+        out.put("snapshotsSent", snapshotsSent.sum());
+        out.put("followers", followers);
+        return out;
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread shipper = new Thread(() -> ship(socket), "winter-repl-ship-" + socket.getRemoteSocketAddress());
+                shipper.setDaemon(true);
+                shipper.start();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) log.warn("Replication accept failed", e);
+            }
+        }
+    }
+
+    private void ship(Socket socket) {
+        String addr = String.valueOf(socket.getRemoteSocketAddress());
+        followerSockets.add(socket);
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String hello = in.readLine();
+            String[] parts = (hello != null) ? hello.trim().split(" ") : new String[0];
+            long next = (parts.length == 3 && "FROM".equals(parts[0])) ? parseSeq(parts[2]) : -1;
+            if (next < 0) {
+                log.warn("Replication handshake rejected from %s: %s", addr, hello);
+                return;
+            }
+            AtomicLong shipped = new AtomicLong();
+            shippedByFollower.put(addr, shipped);
+            if (!logId.equals(parts[1]) || next < replicationLog.oldestSeq() || next > replicationLog.headSeq() + 1) {
+                log.info("Follower %s at log %s seq %d is outside log %s [%d, %d], sending full snapshot",
+                        addr, parts[1], next, logId, replicationLog.oldestSeq(), replicationLog.headSeq());
+                next = sendSnapshot(out);
+            } else {
+                log.info("Follower %s connected, shipping from seq %d", addr, next);
+            }
+            shipped.set(next - 1);
+
+            while (true) {
+                List<ReplicationLog.Entry> batch = replicationLog.readFrom(next, BATCH, HEARTBEAT_MILLIS);
+                if (batch == null) {
+                    log.info("Follower %s fell behind the retained log at seq %d, sending full snapshot", addr, next);
+                    next = sendSnapshot(out);
+                } else if (!batch.isEmpty()) {
+                    for (ReplicationLog.Entry e : batch) {
+                        out.write("E " + e.seq() + " " + e.store() + " " + e.payload());
+                        out.newLine();
+                    }
+                    next = batch.get(batch.size() - 1).seq() + 1;
+                }
+                // 쓰기가 계속 들어오는 동안에도 팔로워가 실제 lag을 알 수 있게 매번 리더의 head를 보낸다
+                out.write("H " + replicationLog.headSeq());
+                out.newLine();
+                out.flush();
+                shipped.set(next - 1);
+            }
+        } catch (IOException e) {
+            log.info("Follower %s disconnected: %s", addr, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            shippedByFollower.remove(addr);
+            followerSockets.remove(socket);
+        }
+    }
+
+    /** @return seq가 숫자가 아니면 -1 */
+    private static long parseSeq(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /** @return 스냅샷 이후 이어서 보낼 seq */
+    private long sendSnapshot(BufferedWriter out) throws IOException {
+        out.write("R " + logId);
+        out.newLine();
+        long covered = Long.MAX_VALUE;
+        for (Map.Entry<String, Replicable> store : stores.entrySet()) {
+            long[] at = new long[1];
+            List<String> payloads = store.getValue().snapshot(() -> at[0] = replicationLog.headSeq());
+            out.write("B " + store.getKey() + " " + at[0]);
+            out.newLine();
+            for (String payload : payloads) {
+                out.write("P " + store.getKey() + " " + payload);
+                out.newLine();
+            }
+            covered = Math.min(covered, at[0]);
+        }
+        // 저장소마다 스냅샷 시점이 다르므로 가장 이른 시점부터 보내고, 팔로워가 이미 포함된 항목은 건너뛴다
+        if (covered == Long.MAX_VALUE) covered = replicationLog.headSeq();
+        out.write("D " + covered);
+        out.newLine();
+        out.flush();
+        snapshotsSent.increment();
+        return covered + 1;
+    }
+}
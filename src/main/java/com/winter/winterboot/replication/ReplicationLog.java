@@ -0,0 +1,98 @@
+package com.winter.winterboot.replication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리더의 쓰기를 순서대로 보관하는 메모리 로그. seq는 1부터 시작한다.
+ * 항목 수(maxEntries)나 payload 크기 합(maxBytes)을 넘으면 오래된 항목부터 지운다.
+ * 지워진 구간이 필요한 팔로워는 스냅샷으로 다시 맞춘다({@link ReplicationLeader}).
+ */
+public class ReplicationLog {
+
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    public record Entry(long seq, String store, String payload) { }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final int maxEntries;
+    private final long maxBytes;
+    private long firstSeq = 1;
+    private long headSeq;
+    private long retainedBytes;
+
+    public ReplicationLog() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    public ReplicationLog(int maxEntries, long maxBytes) {
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("maxEntries and maxBytes must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized long append(String store, String payload) {
+        long seq = ++headSeq;
+        Entry entry = new Entry(seq, store, payload);
+        entries.add(entry);
+        retainedBytes += sizeOf(entry);
+        trim();
+        notifyAll();
+        return seq;
+    }
+
+    // 한도를 넘으면 한도의 90%까지 한 번에 지워 앞쪽 삭제(배열 이동) 비용을 여러 append에 나눈다
+    private void trim() {
+        if (entries.size() <= maxEntries && retainedBytes <= maxBytes) return;
+        long targetEntries = maxEntries - maxEntries / 10;
+        long targetBytes = maxBytes - maxBytes / 10;
+        int drop = 0;
+        long dropped = 0;
+        while (drop < entries.size()
+                && (entries.size() - drop > targetEntries || retainedBytes - dropped > targetBytes)) {
+            dropped += sizeOf(entries.get(drop));
+            drop++;
+        }
+        entries.subList(0, drop).clear();
+        firstSeq += drop;
+        retainedBytes -= dropped;
+    }
+
+    private static long sizeOf(Entry e) {
+        // 문자 수 기준 근사치 + 항목 객체 오버헤드
+        return e.payload().length() + e.store().length() + 48L;
+    }
+
+    public synchronized long headSeq() {
+        return headSeq;
+    }
+
+    /** 아직 보관 중인 가장 오래된 seq. 비어 있으면 headSeq + 1 */
+    public synchronized long oldestSeq() {
+        return firstSeq;
+    }
+
+    public synchronized long retainedBytes() {
+        return retainedBytes;
+    }
+
+    /**
+     * fromSeq 이상의 항목을 최대 max개 반환. 아직 없으면 waitMillis까지 기다린 뒤 빈 목록을 돌려준다.
+     * fromSeq가 이미 지워졌으면 null (스냅샷으로 재동기화해야 한다).
+     */
+    public synchronized List<Entry> readFrom(long fromSeq, int max, long waitMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (headSeq < fromSeq && fromSeq >= firstSeq) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) return List.of();
+            wait(remaining);
+        }
+        if (fromSeq < firstSeq) return null;
+        int from = (int) (fromSeq - firstSeq);
+        int to = Math.min(entries.size(), from + max);
+        return new ArrayList<>(entries.subList(from, to));
+    }
+}
@@ -0,0 +1,30 @@
+package com.winter.winterboot.replication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/** 복제 역할, seq, 지연(lag)을 JSON으로 반환 */
+public class ReplicationStatusHandler implements HttpHandler {
+
+    private final Supplier<Map<String, Object>> status;
+    private final ObjectMapper objectMapper;
+
+    public ReplicationStatusHandler(Supplier<Map<String, Object>> status, ObjectMapper objectMapper) {
+        this.status = status;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(status.get());
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) { os.write(body); }
+    }
+}
@@ -0,0 +1,18 @@
+package com.winter.winterboot.trace;
+
+public enum Phase {
+    ROUTE("route"),
+    QUEUE("queue"),
+    BIND("bind"),
+    BODY("body"),
+    HANDLER("handler"),
+    SERIALIZE("serialize");
+
+    private final String metricName;
+
+    Phase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() { return metricName; }
+}
@@ -0,0 +1,79 @@
+package com.winter.winterboot.trace;
+
+import java.util.Locale;
+
+/**
+ * 요청 하나의 단계별 소요 시간. {@link #mark(Phase)}는 직전 체크포인트부터의 경과 시간을 해당 단계에 누적한다.
+ * 기록은 한 스레드에서만 하므로 동기화하지 않는다. 다만 제한 시간이 지나면 타이머 스레드가 응답하고 끝내므로,
+ * {@link #freeze()} 시점의 값을 복사해 두고 그 뒤로는 사본만 읽으며 작업 스레드의 mark는 무시한다.
+ */
+public class RequestTrace {
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final String method;
+    private final String path;
+    private final long startEpochMillis;
+    private final long startNanos;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private volatile long[] frozenPhaseNanos;
+    private long lastNanos;
+    private long totalNanos;
+    private int status;
+
+    RequestTrace(String method, String path) {
+        this.method = method;
+        this.path = path;
+        this.startEpochMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.lastNanos = startNanos;
+    }
+
+    public void mark(Phase phase) {
+        if (frozenPhaseNanos != null) return; // 이미 다른 스레드가 응답을 끝낸 요청
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()] += now - lastNanos;
+        lastNanos = now;
+    }
+
+    /** 단계별 값을 현재 값으로 고정한다. 이후 mark는 반영되지 않는다 */
+    public void freeze() {
+        if (frozenPhaseNanos == null) frozenPhaseNanos = phaseNanos.clone();
+    }
+
+    void finish(int status) {
+        freeze();
+        this.status = status;
+        this.totalNanos = System.nanoTime() - startNanos;
+    }
+
+    /** 응답 헤더 전송 직전에 호출되므로 total은 그 시점까지의 값이다. */
+    public String toServerTiming() {
+        StringBuilder sb = new StringBuilder(96);
+        long[] phases = phases();
+        for (Phase p : PHASES) {
+            long nanos = phases[p.ordinal()];
+            if (nanos == 0) continue;
+            appendMetric(sb, p.getMetricName(), nanos);
+        }
+        appendMetric(sb, "total", System.nanoTime() - startNanos);
+        return sb.toString();
+    }
+
+    private static void appendMetric(StringBuilder sb, String name, long nanos) {
+        if (sb.length() > 0) sb.append(", ");
+        sb.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+
+    public String getMethod() { return method; }
+    public String getPath() { return path; }
+    public long getStartEpochMillis() { return startEpochMillis; }
+    public long getTotalNanos() { return totalNanos; }
+    public int getStatus() { return status; }
+    public long getPhaseNanos(Phase phase) { return phases()[phase.ordinal()]; }
+
+    private long[] phases() {
+        long[] frozen = frozenPhaseNanos;
+        return (frozen != null) ? frozen : phaseNanos;
+    }
+}
@@ -0,0 +1,45 @@
+package com.winter.winterboot.trace;
+
+import com.winter.winterboot.core.env.Environment;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 샘플링 여부를 결정하고 끝난 요청을 {@link SlowRequestLog}로 넘긴다.
+ * 샘플링되지 않은 요청은 {@link #start}가 null을 돌려주므로 아무 객체도 만들지 않는다.
+ */
+public class RequestTracer {
+
+    private final double sampleRate;
+    private final SlowRequestLog slowRequestLog;
+
+    public RequestTracer(double sampleRate, SlowRequestLog slowRequestLog) {
+        this.sampleRate = sampleRate;
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    /** {@code winter.trace.enabled=true}가 아니면 null */
+    public static RequestTracer from(Environment env) {
+        if (!env.getBool("winter.trace.enabled", false)) {
+            return null;
+        }
+        double sampleRate = Double.parseDouble(env.get("winter.trace.sample-rate", "1.0"));
+        int capacity = env.getInt("winter.trace.slow-capacity", 32);
+        long thresholdMs = env.getInt("winter.trace.slow-threshold-ms", 0);
+        return new RequestTracer(sampleRate, new SlowRequestLog(capacity, thresholdMs * 1_000_000L));
+    }
+
+    public RequestTrace start(String method, String path) {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return null;
+        }
+        return new RequestTrace(method, path);
+    }
+
+    public void finish(RequestTrace trace, int status) {
+        trace.finish(status);
+        slowRequestLog.offer(trace);
+    }
+
+    public SlowRequestLog getSlowRequestLog() { return slowRequestLog; }
+}
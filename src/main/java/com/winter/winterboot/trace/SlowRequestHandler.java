@@ -0,0 +1,47 @@
+package com.winter.winterboot.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 느린 요청 목록과 단계별 소요 시간(ms)을 JSON으로 반환하는 관리용 엔드포인트 */
+public class SlowRequestHandler implements HttpHandler {
+
+    private final SlowRequestLog slowRequestLog;
+    private final ObjectMapper objectMapper;
+
+    public SlowRequestHandler(SlowRequestLog slowRequestLog, ObjectMapper objectMapper) {
+        this.slowRequestLog = slowRequestLog;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (RequestTrace t : slowRequestLog.slowest()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("method", t.getMethod());
+            row.put("path", t.getPath());
+            row.put("status", t.getStatus());
+            row.put("startedAt", t.getStartEpochMillis());
+            row.put("totalMs", t.getTotalNanos() / 1_000_000.0);
+            Map<String, Double> phases = new LinkedHashMap<>();
+            for (Phase p : Phase.values()) {
+                phases.put(p.getMetricName(), t.getPhaseNanos(p) / 1_000_000.0);
+            }
+            row.put("phasesMs", phases);
+            out.add(row);
+        }
+        byte[] body = objectMapper.writeValueAsBytes(out);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) { os.write(body); }
+    }
+}
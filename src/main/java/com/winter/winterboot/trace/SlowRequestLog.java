@@ -0,0 +1,43 @@
+package com.winter.winterboot.trace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 임계값을 넘은 최근 요청을 고정 크기 링 버퍼에 보관한다.
+ * 쓰기는 getAndIncrement로 슬롯 번호를 받아 덮어쓰기만 하므로 락이 없다.
+ */
+public class SlowRequestLog {
+
+    private final AtomicReferenceArray<RequestTrace> slots;
+    private final AtomicLong cursor = new AtomicLong();
+    private final long thresholdNanos;
+
+    public SlowRequestLog(int capacity, long thresholdNanos) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    public void offer(RequestTrace trace) {
+        if (trace.getTotalNanos() < thresholdNanos) return;
+        int idx = (int) (cursor.getAndIncrement() % slots.length());
+        slots.set(idx, trace);
+    }
+
+    /** 보관 중인 요청을 느린 순서로 반환 */
+    public List<RequestTrace> slowest() {
+        List<RequestTrace> out = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            RequestTrace t = slots.get(i);
+            if (t != null) out.add(t);
+        }
+        out.sort(Comparator.comparingLong(RequestTrace::getTotalNanos).reversed());
+        return out;
+    }
+}
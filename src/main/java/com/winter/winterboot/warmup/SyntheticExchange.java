@@ -0,0 +1,82 @@
+package com.winter.winterboot.warmup;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소켓 없이 DispatcherHandler를 통과시키기 위한 메모리 상의 요청/응답.
+ * 응답 본문 스트림이 닫히거나 flush되면 완료로 본다 (벌크헤드 풀에서 비동기로 처리되는 경우 {@link #await}로 기다린다).
+ */
+public class SyntheticExchange extends HttpExchange {
+
+    private static final InetSocketAddress LOOPBACK = new InetSocketAddress("127.0.0.1", 0);
+
+    private final String method;
+    private final URI uri;
+    private final Headers requestHeaders = new Headers();
+    private final Headers responseHeaders = new Headers();
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private InputStream requestBody;
+    private OutputStream responseBody;
+    private int responseCode = -1;
+
+    public SyntheticExchange(String method, URI uri, byte[] body) {
+        this.method = method;
+        this.uri = uri;
+        this.requestBody = new ByteArrayInputStream(body != null ? body : new byte[0]);
+        this.responseBody = new ByteArrayOutputStream() {
+            // 제한 시간 초과 응답은 닫지 않고 flush까지만 하므로 flush도 응답 완료로 본다
+            @Override
+            public void flush() {
+                done.countDown();
+            }
+
+            @Override
+            public void close() {
+                done.countDown();
+            }
+        };
+        if (body != null) requestHeaders.set("Content-Type", "application/json");
+    }
+
+    public boolean await(long timeoutMillis) throws InterruptedException {
+        return done.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override public Headers getRequestHeaders() { return requestHeaders; }
+    @Override public Headers getResponseHeaders() { return responseHeaders; }
+    @Override public URI getRequestURI() { return uri; }
+    @Override public String getRequestMethod() { return method; }
+    @Override public HttpContext getHttpContext() { return null; }
+    @Override public void close() { done.countDown(); }
+    @Override public InputStream getRequestBody() { return requestBody; }
+    @Override public OutputStream getResponseBody() { return responseBody; }
+    @Override public void sendResponseHeaders(int rCode, long responseLength) { this.responseCode = rCode; }
+    @Override public InetSocketAddress getRemoteAddress() { return LOOPBACK; }
+    @Override public int getResponseCode() { return responseCode; }
+    @Override public InetSocketAddress getLocalAddress() { return LOOPBACK; }
+    @Override public String getProtocol() { return "HTTP/1.1"; }
+    @Override public Object getAttribute(String name) { return attributes.get(name); }
+    @Override public void setAttribute(String name, Object value) { attributes.put(name, value); }
+    @Override public HttpPrincipal getPrincipal() { return null; }
+
+    @Override
+    public void setStreams(InputStream i, OutputStream o) {
+        if (i != null) requestBody = i;
+        if (o != null) responseBody = o;
+    }
+}
@@ -0,0 +1,198 @@
+package com.winter.winterboot.warmup;
+
+import com.winter.winterboot.DispatcherHandler;
+import com.winter.winterboot.annotation.PathVariable;
+import com.winter.winterboot.annotation.RequestBody;
+import com.winter.winterboot.annotation.RequestParam;
+import com.winter.winterboot.bulkhead.BulkheadExecutor;
+import com.winter.winterboot.core.env.Environment;
+import com.winter.winterboot.core.log.Logger;
+import com.winter.winterboot.core.log.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 리스닝 소켓을 열기 전에 매핑된 모든 라우트에 합성 요청을 보내 바인딩/호출/직렬화 경로를 JIT 컴파일시킨다.
+ * <p>
+ * 라우트별 샘플은 warmup.sample.&lt;Controller&gt;.&lt;method&gt;.uri / .body 로 지정할 수 있고,
+ * 없으면 경로/쿼리 파라미터를 타입별 기본값으로 채운다. 요청 본문은 만들지 않는다:
+ * 쓰기 라우트(POST)와 @RequestBody 핸들러는 warmup.include-writes=true이면서 .body가 지정된 경우에만 호출한다.
+ * 합성 요청은 트레이싱/JFR 이벤트에서 제외되고, 끝나면 제한 시간/벌크헤드/병합 집계를 0으로 되돌린다.
+ */
+public class WarmupRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final DispatcherHandler dispatcher;
+    private final Environment env;
+
+    public WarmupRunner(DispatcherHandler dispatcher, Environment env) {
+        this.dispatcher = dispatcher;
+        this.env = env;
+    }
+
+    private record Sample(String label, String method, URI uri, byte[] body) { }
+
+    public void run() {
+        int iterations = env.getInt("warmup.iterations", 10_000);
+        long budgetNanos = env.getInt("warmup.time-budget-ms", 10_000) * 1_000_000L;
+        int window = env.getInt("warmup.window", 200);
+        boolean includeWrites = env.getBool("warmup.include-writes", false);
+
+        List<Sample> samples = new ArrayList<>();
+        for (DispatcherHandler.Route route : dispatcher.getRoutes()) {
+            if (!"GET".equals(route.httpMethod()) && !includeWrites) {
+                log.info("Warm-up skips %s %s (set warmup.include-writes=true to include)", route.httpMethod(), route.path());
+                continue;
+            }
+            try {
+                Sample sample = sampleFor(route);
+                if (sample != null) samples.add(sample);
+            } catch (Exception e) {
+                log.warn("Warm-up skips %s %s: %s", route.httpMethod(), route.path(), e.getMessage());
+            }
+        }
+        if (samples.isEmpty()) {
+            log.info("Warm-up skipped: no routes to exercise");
+            return;
+        }
+
+        long start = System.nanoTime();
+        long[] windowLatencies = new long[window];
+        long firstMedian = -1;
+        long prevMedian = -1;
+        long lastMedian = -1;
+        int stableWindows = 0;
+        long steadyAtNanos = -1;
+        int steadyAtRequest = -1;
+        int failures = 0;
+        int done = 0;
+
+        while (done < iterations && System.nanoTime() - start < budgetNanos) {
+            Sample sample = samples.get(done % samples.size());
+            long t0 = System.nanoTime();
+            int status = execute(sample);
+            windowLatencies[done % window] = System.nanoTime() - t0;
+            if (status < 200 || status >= 400) failures++;
+            done++;
+
+            if (done % window == 0) {
+                long median = median(windowLatencies);
+                if (firstMedian < 0) firstMedian = median;
+                // 직전 창과 중앙값 차이가 10% 이내인 창이 3번 연속이면 정상 상태로 본다
+                if (prevMedian > 0 && Math.abs(median - prevMedian) <= prevMedian / 10) {
+                    if (++stableWindows == 3 && steadyAtNanos < 0) {
+                        steadyAtNanos = System.nanoTime() - start;
+                        steadyAtRequest = done;
+                    }
+                } else {
+                    stableWindows = 0;
+                }
+                prevMedian = median;
+                lastMedian = median;
+            }
+        }
+
+        // 제한 시간/벌크헤드/병합 집계는 합성 요청을 세지 않은 상태로 포트를 연다.
+        // 응답을 보낸 뒤에 집계하는 벌크헤드 작업이 남아 있을 수 있으므로 비워질 때까지 기다린다
+        awaitBulkheadsIdle();
+        dispatcher.resetStats();
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Warm-up finished: %d requests over %d routes in %d ms (%d non-2xx/3xx)",
+                done, samples.size(), elapsedMs, failures);
+        if (firstMedian >= 0) {
+            log.info("Warm-up latency p50: first window %d us, last window %d us", firstMedian / 1000, lastMedian / 1000);
+        }
+        if (steadyAtNanos >= 0) {
+            log.info("Warm-up reached steady state after %d ms (%d requests)", steadyAtNanos / 1_000_000, steadyAtRequest);
+        } else {
+            log.info("Warm-up did not reach steady state within the iteration/time budget");
+        }
+    }
+
+    private void awaitBulkheadsIdle() {
+        try {
+            for (BulkheadExecutor bulkhead : dispatcher.getBulkheads()) {
+                if (!bulkhead.awaitIdle(5_000)) {
+                    log.warn("Warm-up: bulkhead '%s' still busy, its stats may include warm-up requests", bulkhead.getName());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int execute(Sample sample) {
+        SyntheticExchange exchange = new SyntheticExchange(sample.method(), sample.uri(), sample.body());
+        try {
+            dispatcher.handle(exchange);
+            // 벌크헤드 풀로 넘어간 요청은 응답이 끝날 때까지 기다린다
+            if (!exchange.await(5_000)) {
+                log.warn("Warm-up request timed out: " + sample.label());
+            }
+            return exchange.getResponseCode();
+        } catch (Exception e) {
+            return 500;
+        }
+    }
+
+    /** @return 본문이 필요한데 샘플이 지정되지 않았으면 null */
+    private Sample sampleFor(DispatcherHandler.Route route) throws Exception {
+        Method method = route.method();
+        String key = "warmup.sample." + method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        String label = route.httpMethod() + " " + route.path();
+
+        String uri = env.get(key + ".uri", null);
+        String body = env.get(key + ".body", null);
+
+        if (uri == null) {
+            String path = route.path();
+            StringBuilder query = new StringBuilder();
+            for (Parameter p : method.getParameters()) {
+                if (p.isAnnotationPresent(PathVariable.class)) {
+                    String name = p.getAnnotation(PathVariable.class).value();
+                    path = path.replace("{" + name + "}", defaultValue(p.getType()));
+                } else if (p.isAnnotationPresent(RequestParam.class)) {
+                    RequestParam rp = p.getAnnotation(RequestParam.class);
+                    if (!rp.required() || !rp.defaultValue().isEmpty()) continue;
+                    Class<?> type = p.getType().isArray() ? p.getType().getComponentType() : p.getType();
+                    query.append(query.length() == 0 ? "" : "&")
+                            .append(URLEncoder.encode(rp.value(), StandardCharsets.UTF_8)).append('=')
+                            .append(URLEncoder.encode(defaultValue(type), StandardCharsets.UTF_8));
+                }
+            }
+            uri = (query.length() == 0) ? path : path + "?" + query;
+        }
+        boolean needsBody = !"GET".equals(route.httpMethod())
+                || Arrays.stream(method.getParameters()).anyMatch(p -> p.isAnnotationPresent(RequestBody.class));
+        if (body == null && needsBody) {
+            // 임의로 만든 본문이 실제 저장소에 쓰이고 팔로워까지 복제되므로 지정된 샘플만 보낸다
+            log.info("Warm-up skips %s: set %s.body to a payload that is safe to write", label, key);
+            return null;
+        }
+        return new Sample(label, route.httpMethod(), URI.create(uri),
+                body != null ? body.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private static String defaultValue(Class<?> type) {
+        if (type == int.class || type == Integer.class || type == long.class || type == Long.class) return "1";
+        if (type == double.class || type == Double.class) return "1.0";
+        if (type == boolean.class || type == Boolean.class) return "true";
+        if (type.isEnum() && type.getEnumConstants().length > 0) return ((Enum<?>) type.getEnumConstants()[0]).name();
+        return "warmup";
+    }
+
+    private static long median(long[] values) {
+        long[] copy = Arrays.copyOf(values, values.length);
+        Arrays.sort(copy);
+        return copy[copy.length / 2];
+    }
+}
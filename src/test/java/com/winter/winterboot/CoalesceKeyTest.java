@@ -0,0 +1,30 @@
+package com.winter.winterboot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CoalesceKeyTest {
+
+    @Test
+    void missingParameterDiffersFromLiteralNull() {
+        assertNotEquals(
+                DispatcherHandler.coalesceKey("GET", "/search", new Object[]{null}),
+                DispatcherHandler.coalesceKey("GET", "/search", new Object[]{"null"}));
+    }
+
+    @Test
+    void separatorsInsideValuesDoNotCollide() {
+        assertNotEquals(
+                DispatcherHandler.coalesceKey("GET", "/p", new Object[]{"a|1:b", "c"}),
+                DispatcherHandler.coalesceKey("GET", "/p", new Object[]{"a", "b|1:c"}));
+    }
+
+    @Test
+    void sameArgumentsGiveSameKey() {
+        assertEquals(
+                DispatcherHandler.coalesceKey("GET", "/users/{id}", new Object[]{7, new int[]{1, 2}}),
+                DispatcherHandler.coalesceKey("GET", "/users/{id}", new Object[]{7, new int[]{1, 2}}));
+    }
+}
@@ -0,0 +1,34 @@
+package com.winter.winterboot.admin;
+
+import com.winter.winterboot.warmup.SyntheticExchange;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdminHandlerTest {
+
+    private final AdminHandler handler = new AdminHandler("/_admin");
+
+    @Test
+    void nonNumericDurationIsBadRequest() throws Exception {
+        assertEquals(400, post("/_admin/jfr/start?duration=abc"));
+    }
+
+    @Test
+    void unknownSettingsIsBadRequest() throws Exception {
+        assertEquals(400, post("/_admin/jfr/start?settings=nope"));
+    }
+
+    @Test
+    void stopWithoutRecordingIsConflict() throws Exception {
+        assertEquals(409, post("/_admin/jfr/stop"));
+    }
+
+    private int post(String uri) throws Exception {
+        SyntheticExchange exchange = new SyntheticExchange("POST", URI.create(uri), null);
+        handler.handle(exchange);
+        return exchange.getResponseCode();
+    }
+}
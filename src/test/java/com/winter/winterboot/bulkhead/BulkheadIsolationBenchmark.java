@@ -0,0 +1,169 @@
+package com.winter.winterboot.bulkhead;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 벌크헤드 격리 효과 측정: 전체 스캔(GET /users?name=) 부하를 걸어 둔 채 단건 조회(GET /users/{id}) 지연을 잰다.
+ * 같은 조건으로 서버를 두 번(search 풀 배정 해제 / 기본 설정) 띄워 p50/p99를 비교한다.
+ * <pre>
+ * gradle bulkheadBenchmark
+ * gradle bulkheadBenchmark -Pbench.users=50000 -Pbench.scanners=16 -Pbench.lookupClients=4 -Pbench.lookups=100
+ * </pre>
+ * 서버는 별도 JVM으로 띄우며 server.threads(기본 8)와 bench.port(기본 18090)를 넘길 수 있다.
+ */
+public class BulkheadIsolationBenchmark {
+
+    private static final int USERS = Integer.getInteger("bench.users", 50_000);
+    private static final int SCANNERS = Integer.getInteger("bench.scanners", 16);
+    private static final int LOOKUP_CLIENTS = Integer.getInteger("bench.lookupClients", 4);
+    private static final int LOOKUPS = Integer.getInteger("bench.lookups", 100);
+    private static final int SERVER_THREADS = Integer.getInteger("server.threads", 8);
+    private static final int PORT = Integer.getInteger("bench.port", 18090);
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("users=%d scanners=%d lookups=%dx%d server.threads=%d cpus=%d%n",
+                USERS, SCANNERS, LOOKUP_CLIENTS, LOOKUPS, SERVER_THREADS, Runtime.getRuntime().availableProcessors());
+        // winter.bulkhead.assign.<Controller>.<method>를 빈 값으로 주면 @Bulkhead 배정이 해제된다
+        long[] shared = run("shared server pool", "-Dwinter.bulkhead.assign.UserController.list=");
+        long[] isolated = run("search bulkhead   ");
+        System.out.printf("lookup p50 %d ms -> %d ms, p99 %d ms -> %d ms%n", shared[0], isolated[0], shared[1], isolated[1]);
+    }
+
+    /** @return {p50, p99} ms */
+    private static long[] run(String label, String... extraJvmArgs) throws Exception {
+        List<String> cmd = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                // 테스트 클래스 디렉터리가 앞에 오면 컴포넌트 스캔이 그쪽만 보므로 main 클래스패스로 띄운다
+                "-cp", System.getProperty("bench.serverClasspath", System.getProperty("java.class.path")),
+                "-Dserver.port=" + PORT,
+                "-Dserver.threads=" + SERVER_THREADS,
+                "-Dadmin.enabled=false",
+                "-Dlogging.level=WARN"));
+        cmd.addAll(List.of(extraJvmArgs));
+        cmd.add("com.winter.winterboot.Main");
+        Process server = new ProcessBuilder(cmd).redirectErrorStream(true)
+                .redirectOutput(new File(System.getProperty("java.io.tmpdir"), "bulkhead-benchmark-server.log"))
+                .start();
+        try {
+            awaitPort();
+            populate();
+            return measure(label);
+        } finally {
+            server.destroy();
+            server.waitFor();
+        }
+    }
+
+    private static void populate() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int start = t;
+                futures.add(pool.submit(() -> {
+                    for (int id = start; id < USERS; id += 8) {
+                        int status = send("POST", "/users", "{\"id\":" + id + ",\"name\":\"user" + id + "\"}");
+                        if (status != 200) throw new IllegalStateException("populate failed: " + status);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long[] measure(String label) throws Exception {
+        AtomicBoolean scanning = new AtomicBoolean(true);
+        LongAdder scans = new LongAdder();
+        ExecutorService pool = Executors.newFixedThreadPool(SCANNERS + LOOKUP_CLIENTS);
+        try {
+            // 일치하는 이름이 없어 매번 전체를 훑는다
+            for (int i = 0; i < SCANNERS; i++) {
+                pool.submit(() -> {
+                    while (scanning.get()) {
+                        send("GET", "/users?name=nomatch&limit=10", null);
+                        scans.increment();
+                    }
+                    return null;
+                });
+            }
+            Thread.sleep(1000);
+
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            List<Future<?>> lookups = new ArrayList<>();
+            for (int c = 0; c < LOOKUP_CLIENTS; c++) {
+                lookups.add(pool.submit(() -> {
+                    for (int i = 0; i < LOOKUPS; i++) {
+                        int id = ThreadLocalRandom.current().nextInt(USERS);
+                        long t0 = System.nanoTime();
+                        send("GET", "/users/" + id, null);
+                        latencies.add((System.nanoTime() - t0) / 1_000_000);
+                    }
+                    return null;
+                }));
+            }
+            long scansBefore = scans.sum();
+            long t0 = System.nanoTime();
+            for (Future<?> f : lookups) f.get();
+            scanning.set(false);
+            double seconds = (System.nanoTime() - t0) / 1e9;
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            long p50 = sorted.get(sorted.size() / 2);
+            long p99 = sorted.get((int) (sorted.size() * 0.99));
+            System.out.printf("%s lookup p50=%d ms p99=%d ms max=%d ms (n=%d), scans %.0f/s%n",
+                    label, p50, p99, sorted.get(sorted.size() - 1), sorted.size(), (scans.sum() - scansBefore) / seconds);
+            return new long[]{p50, p99};
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // 클라이언트 스레드마다 블로킹 연결을 쓴다 (HttpClient는 I/O를 선택자 스레드 하나로 처리해 부하 생성기가 병목이 된다)
+    private static int send(String method, String path, String body) throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) new URL("http://localhost:" + PORT + path).openConnection();
+        conn.setRequestMethod(method);
+        if (body != null) {
+            conn.setDoOutput(true);
+            conn.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream os = conn.getOutputStream()) { os.write(body.getBytes(StandardCharsets.UTF_8)); }
+        }
+        int status = conn.getResponseCode();
+        try (InputStream in = status < 400 ? conn.getInputStream() : conn.getErrorStream()) {
+            if (in != null) in.readAllBytes();
+        }
+        return status;
+    }
+
+    private static void awaitPort() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            try (Socket ignored = new Socket("localhost", PORT)) {
+                return;
+            } catch (IOException e) {
+                Thread.sleep(100);
+            }
+        }
+        throw new IllegalStateException("server did not open port " + PORT);
+    }
+}
@@ -0,0 +1,118 @@
+package com.winter.winterboot.coalesce;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 32;
+
+    @Test
+    void concurrentCallsOnSameKeyExecuteOnce() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(10_000);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Future<Integer>> results = runConcurrently(flight, () -> {
+            calls.incrementAndGet();
+            // 모든 follower가 합류할 때까지 leader를 붙잡아 둔다
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return 42;
+        }, release);
+
+        for (Future<Integer> f : results) assertEquals(42, f.get(10, TimeUnit.SECONDS));
+        assertEquals(1, flight.getExecutions());
+        assertEquals(1, calls.get());
+        assertEquals(CALLERS - 1, flight.getShared());
+        assertEquals(0, flight.getInFlight());
+    }
+
+    @Test
+    void leaderExceptionReachesEveryFollower() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(10_000);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        List<Future<Integer>> results = runConcurrently(flight, () -> {
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            throw failure;
+        }, release);
+
+        for (Future<Integer> f : results) {
+            Throwable thrown = assertThrows(Exception.class, () -> f.get(10, TimeUnit.SECONDS)).getCause();
+            assertSame(failure, thrown);
+        }
+        assertEquals(1, flight.getExecutions());
+    }
+
+    @Test
+    void followerPastTimeoutGetsTimeoutException() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(50);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> leader = pool.submit(() -> flight.execute("k", () -> {
+                leaderStarted.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                return 1;
+            }));
+            assertTrue(leaderStarted.await(10, TimeUnit.SECONDS));
+
+            assertThrows(TimeoutException.class, () -> flight.execute("k", () -> 2));
+
+            release.countDown();
+            assertEquals(1, leader.get(10, TimeUnit.SECONDS));
+            assertEquals(1, flight.getExecutions());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // CALLERS개 스레드가 같은 키로 execute를 호출하고, follower가 모두 합류하면 release를 연다
+    private static List<Future<Integer>> runConcurrently(SingleFlight<String, Integer> flight,
+                                                         Callable<Integer> work,
+                                                         CountDownLatch release) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return flight.execute("key", work);
+                }));
+            }
+            start.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (flight.getShared() < CALLERS - 1) {
+                assertTrue(System.nanoTime() < deadline, "followers did not join in time");
+                Thread.sleep(1);
+            }
+            release.countDown();
+            for (Future<Integer> f : results) {
+                try {
+                    f.get(10, TimeUnit.SECONDS);
+                } catch (ExecutionException ignored) {
+                    // 예외 전파는 호출한 테스트에서 확인
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
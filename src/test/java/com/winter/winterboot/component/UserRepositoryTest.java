@@ -0,0 +1,55 @@
+package com.winter.winterboot.component;
+
+import com.winter.winterboot.domain.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserRepositoryTest {
+
+    @Test
+    void renamingStoredInstanceKeepsSingleNameIndexEntry() {
+        UserRepository repository = new UserRepository();
+        repository.save(new User(1, "alice"));
+
+        // 조회 결과는 사본이므로 save 전까지 저장소와 색인은 그대로다
+        User user = repository.findById(1);
+        user.setName("zoe");
+        assertEquals("alice", repository.findById(1).getName());
+        assertEquals("alice", repository.findAfterByName(null, null, 10).get(0).getName());
+        repository.save(user);
+
+        List<User> byName = repository.findAfterByName(null, null, 10);
+        assertEquals(1, byName.size());
+        assertEquals("zoe", byName.get(0).getName());
+    }
+
+    @Test
+    void mutatingQueryResultsDoesNotChangeStore() {
+        UserRepository repository = new UserRepository();
+        repository.save(new User(1, "alice"));
+        repository.save(new User(2, "bob"));
+
+        repository.findAll().forEach(u -> u.setName("x"));
+        repository.findByIdRange(null, null, 10).forEach(u -> u.setName("x"));
+        repository.findAfterByName(null, null, 10).forEach(u -> u.setName("x"));
+        repository.findByName("", 10).forEach(u -> u.setName("x"));
+
+        List<User> byName = repository.findAfterByName(null, null, 10);
+        assertEquals(List.of("alice", "bob"), byName.stream().map(User::getName).toList());
+        assertEquals(1, repository.findByName("alice", 10).size());
+    }
+
+    @Test
+    void laterMutationOfSavedObjectDoesNotChangeStore() {
+        UserRepository repository = new UserRepository();
+        User user = new User(1, "alice");
+        repository.save(user);
+        user.setName("bob");
+
+        assertEquals("alice", repository.findById(1).getName());
+        assertEquals("alice", repository.findAfterByName(null, null, 10).get(0).getName());
+    }
+}
@@ -0,0 +1,229 @@
+package com.winter.winterboot.deadline;
+
+import com.sun.net.httpserver.HttpServer;
+import com.winter.winterboot.DispatcherHandler;
+import com.winter.winterboot.core.ApplicationContext;
+import com.winter.winterboot.core.env.Environment;
+import com.winter.winterboot.deadline.fixture.DeadlineFixtureController;
+import com.winter.winterboot.warmup.SyntheticExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineDispatchTest {
+
+    // 타이머 스레드 스케줄링과 CI 부하를 감안한 여유
+    private static final long MARGIN_MS = 500;
+
+    private ApplicationContext ctx;
+    private DispatcherHandler dispatcher;
+    private DeadlineFixtureController controller;
+
+    @BeforeEach
+    void setUp() {
+        ctx = new ApplicationContext("com.winter.winterboot.deadline.fixture");
+        dispatcher = new DispatcherHandler(ctx, new Environment());
+        controller = ctx.getBean(DeadlineFixtureController.class);
+    }
+
+    @Test
+    void sleepingHandlerGets504WithinTimeout() throws Exception {
+        SyntheticExchange exchange = get("/sleep");
+        long start = System.nanoTime();
+        Thread worker = dispatch(exchange);
+
+        assertTrue(exchange.await(200 + MARGIN_MS), "no response within the deadline");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals(504, exchange.getResponseCode());
+        assertTrue(elapsedMs >= 200, "responded before the deadline: " + elapsedMs + " ms");
+
+        // 인터럽트로 핸들러도 곧 끝나고, 버려진 응답은 지연 완료로 집계된다
+        worker.join(5000);
+        assertFalse(worker.isAlive());
+        assertEquals(1, controller.interrupted.get());
+        assertEquals(1L, stat("timedOut"));
+        assertEquals(1L, stat("lateCompletions"));
+        assertEquals(0L, stat("pendingTimers"));
+    }
+
+    @Test
+    void headerShortensTimeout() throws Exception {
+        SyntheticExchange exchange = get("/slow");
+        exchange.getRequestHeaders().set("X-Request-Timeout", "50");
+        Thread worker = dispatch(exchange);
+
+        assertTrue(exchange.await(50 + MARGIN_MS));
+        assertEquals(504, exchange.getResponseCode());
+        worker.join(5000);
+        assertEquals(1L, stat("timedOut"));
+    }
+
+    @Test
+    void fastRequestCancelsTimer() throws Exception {
+        SyntheticExchange exchange = get("/slow");
+        exchange.getRequestHeaders().set("X-Request-Timeout", "5000");
+        Thread worker = dispatch(exchange);
+
+        assertTrue(exchange.await(5000));
+        worker.join(5000);
+        assertEquals(200, exchange.getResponseCode());
+        assertEquals(0L, stat("timedOut"));
+        assertEquals(0L, stat("lateCompletions"));
+        assertEquals(0L, stat("pendingTimers"));
+    }
+
+    @Test
+    void cooperativeHandlerStopsAtDeadline() throws Exception {
+        SyntheticExchange exchange = get("/spin");
+        Thread worker = dispatch(exchange);
+
+        assertTrue(exchange.await(200 + MARGIN_MS));
+        assertEquals(504, exchange.getResponseCode());
+        worker.join(5000);
+        assertFalse(worker.isAlive(), "spinning handler ignored the deadline");
+        // 타이머와 deadline.check() 중 먼저 응답한 쪽 하나만 집계된다
+        assertEquals(1L, stat("timedOut"));
+    }
+
+    @Test
+    void slowRequestBodyStillGets504() throws Exception {
+        // 본문을 읽던 스레드를 먼저 인터럽트하면 소켓 채널이 닫혀 504 대신 연결이 끊긴다. 실제 소켓으로 확인한다
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        server.createContext("/", dispatcher);
+        server.setExecutor(threads);
+        server.start();
+        try (Socket socket = new Socket("127.0.0.1", server.getAddress().getPort())) {
+            socket.setSoTimeout((int) (300 + MARGIN_MS));
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST /echo HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n"
+                    + "Content-Length: 64\r\n\r\n{\"name\":\"par").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            long start = System.nanoTime();
+
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String statusLine = in.readLine();
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertNotNull(statusLine, "connection dropped without a response");
+            assertTrue(statusLine.startsWith("HTTP/1.1 504"), statusLine);
+            assertTrue(elapsedMs < 300 + MARGIN_MS, "504 took " + elapsedMs + " ms");
+        } finally {
+            server.stop(0);
+            threads.shutdownNow();
+        }
+        assertEquals(1L, stat("timedOut"));
+    }
+
+    @Test
+    void fastRequestTailLatencyStaysBoundedWhileHandlersHang() throws Exception {
+        // 서버 스레드 4개를 멈춘 핸들러(5초 대기)가 차지해도 200ms 제한이 스레드를 풀어 주므로
+        // 뒤에 줄 선 빠른 요청은 멈춘 요청 몇 개분의 제한 시간 이상 기다리지 않는다 (제한이 없으면 수 초)
+        ExecutorService serverThreads = Executors.newFixedThreadPool(4);
+        List<SyntheticExchange> hanging = new ArrayList<>();
+        List<Future<Long>> fastLatencies = new ArrayList<>();
+        try {
+            for (int i = 0; i < 120; i++) {
+                if (i % 10 == 0) {
+                    SyntheticExchange exchange = get("/sleep");
+                    hanging.add(exchange);
+                    serverThreads.submit(() -> {
+                        dispatcher.handle(exchange);
+                        return null;
+                    });
+                    continue;
+                }
+                SyntheticExchange exchange = get("/fast");
+                long submitted = System.nanoTime();
+                fastLatencies.add(serverThreads.submit(() -> {
+                    dispatcher.handle(exchange);
+                    assertEquals(200, exchange.getResponseCode());
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitted);
+                }));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            for (Future<Long> f : fastLatencies) latencies.add(f.get(10, TimeUnit.SECONDS));
+            Collections.sort(latencies);
+            long p99 = latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1);
+            long max = latencies.get(latencies.size() - 1);
+            // 12개의 멈춘 요청 / 4 스레드 = 200ms 제한 3회분 + 여유
+            assertTrue(max < 3 * 200 + 2 * MARGIN_MS, "fast request waited " + max + " ms (p99 " + p99 + " ms)");
+
+            for (SyntheticExchange exchange : hanging) {
+                assertTrue(exchange.await(5000));
+                assertEquals(504, exchange.getResponseCode());
+            }
+        } finally {
+            serverThreads.shutdown();
+            assertTrue(serverThreads.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(hanging.size(), controller.interrupted.get());
+        assertEquals((long) hanging.size(), stat("timedOut"));
+    }
+
+    @Test
+    void leaderTimeoutDoesNotFailCoalescedFollowers() throws Exception {
+        SyntheticExchange leader = get("/shared");
+        leader.getRequestHeaders().set("X-Request-Timeout", "100");
+        List<Thread> workers = new ArrayList<>();
+        workers.add(dispatch(leader));
+        assertTrue(controller.sharedStarted.await(5, TimeUnit.SECONDS));
+
+        List<SyntheticExchange> followers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            SyntheticExchange follower = get("/shared");
+            followers.add(follower);
+            workers.add(dispatch(follower));
+        }
+
+        assertTrue(leader.await(100 + MARGIN_MS));
+        assertEquals(504, leader.getResponseCode());
+        for (SyntheticExchange follower : followers) {
+            assertTrue(follower.await(5000));
+            assertEquals(200, follower.getResponseCode());
+        }
+        for (Thread t : workers) t.join(5000);
+
+        assertEquals(1, controller.sharedCalls.get());
+        assertEquals(0, controller.interrupted.get());
+        assertEquals(1L, stat("timedOut"));
+        assertEquals(1L, stat("lateCompletions"));
+    }
+
+    private static SyntheticExchange get(String path) {
+        return new SyntheticExchange("GET", URI.create(path), null);
+    }
+
+    // 벌크헤드가 없는 라우트는 호출 스레드에서 끝까지 처리하므로 별도 스레드에서 돌린다
+    private Thread dispatch(SyntheticExchange exchange) {
+        Thread t = new Thread(() -> {
+            try {
+                dispatcher.handle(exchange);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, "deadline-test-worker");
+        t.start();
+        return t;
+    }
+
+    private long stat(String name) {
+        return ((Number) dispatcher.getDeadlineTimer().stats().get(name)).longValue();
+    }
+}
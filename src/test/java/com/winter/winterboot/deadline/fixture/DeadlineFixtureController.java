@@ -0,0 +1,72 @@
+package com.winter.winterboot.deadline.fixture;
+
+import com.winter.winterboot.annotation.*;
+import com.winter.winterboot.deadline.Deadline;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RestController
+public class DeadlineFixtureController {
+
+    public final AtomicInteger interrupted = new AtomicInteger();
+    public final AtomicInteger sharedCalls = new AtomicInteger();
+    public final CountDownLatch sharedStarted = new CountDownLatch(1);
+
+    @Timeout(200)
+    @GetMapping("/sleep")
+    public String sleep() throws InterruptedException {
+        try {
+            Thread.sleep(5000);
+        } catch (InterruptedException e) {
+            interrupted.incrementAndGet();
+            throw e;
+        }
+        return "woke";
+    }
+
+    @GetMapping("/fast")
+    public String fast() {
+        return "fast";
+    }
+
+    @GetMapping("/slow")
+    public String slow() throws InterruptedException {
+        Thread.sleep(300);
+        return "slow";
+    }
+
+    @Timeout(200)
+    @GetMapping("/spin")
+    public String spin(Deadline deadline) {
+        while (true) {
+            deadline.check();
+            Thread.onSpinWait();
+        }
+    }
+
+    @Timeout(300)
+    @PostMapping("/echo")
+    public String echo(@RequestBody Payload payload) {
+        return payload.name;
+    }
+
+    @Timeout(2000)
+    @Coalesce
+    @GetMapping("/shared")
+    public String shared() throws InterruptedException {
+        sharedCalls.incrementAndGet();
+        sharedStarted.countDown();
+        try {
+            Thread.sleep(400);
+        } catch (InterruptedException e) {
+            interrupted.incrementAndGet();
+            throw e;
+        }
+        return "shared";
+    }
+
+    public static class Payload {
+        public String name;
+    }
+}
@@ -0,0 +1,42 @@
+package com.winter.winterboot.replication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationLogTest {
+
+    @Test
+    void dropsOldestEntriesPastEntryLimit() throws Exception {
+        ReplicationLog log = new ReplicationLog(10, Long.MAX_VALUE);
+        for (int i = 0; i < 100; i++) log.append("s", "p" + i);
+
+        assertEquals(100, log.headSeq());
+        assertTrue(100 - log.oldestSeq() + 1 <= 10);
+        assertNull(log.readFrom(1, 10, 0), "trimmed seq must not be readable");
+
+        List<ReplicationLog.Entry> tail = log.readFrom(log.oldestSeq(), 100, 0);
+        assertEquals(100, tail.get(tail.size() - 1).seq());
+        assertEquals(log.oldestSeq(), tail.get(0).seq());
+    }
+
+    @Test
+    void retainedBytesStayWithinLimit() {
+        ReplicationLog log = new ReplicationLog(Integer.MAX_VALUE, 10_000);
+        String payload = "x".repeat(500);
+        for (int i = 0; i < 1_000; i++) log.append("s", payload);
+
+        assertTrue(log.retainedBytes() <= 10_000);
+        assertTrue(log.oldestSeq() > 1);
+    }
+
+    @Test
+    void readPastHeadWaitsThenReturnsEmpty() throws Exception {
+        ReplicationLog log = new ReplicationLog();
+        log.append("s", "a");
+        assertTrue(log.readFrom(2, 10, 10).isEmpty());
+        assertEquals(1, log.readFrom(1, 10, 0).size());
+    }
+}
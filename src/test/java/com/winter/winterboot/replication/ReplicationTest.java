@@ -0,0 +1,166 @@
+package com.winter.winterboot.replication;
+
+import com.winter.winterboot.component.UserRepository;
+import com.winter.winterboot.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationTest {
+
+    private final List<ReplicationLeader> leaders = new ArrayList<>();
+    private ReplicationFollower follower;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (follower != null) follower.close();
+        for (ReplicationLeader leader : leaders) leader.close();
+    }
+
+    @Test
+    void newFollowerGetsSnapshotThenLogTail() throws Exception {
+        UserRepository leaderRepo = new UserRepository();
+        ReplicationLeader leader = startLeader(leaderRepo, 0);
+        for (int i = 1; i <= 3; i++) leaderRepo.save(new User(i, "user" + i));
+
+        UserRepository replica = new UserRepository();
+        follower = follow(leader.getPort(), replica);
+        awaitTrue(() -> replica.findAll().size() == 3);
+
+        leaderRepo.save(new User(4, "user4"));
+        awaitTrue(() -> replica.findById(4) != null);
+        assertEquals(leader.getLogId(), follower.getLogId());
+        assertEquals(4, follower.getAppliedSeq());
+    }
+
+    @Test
+    void leaderRestartWithEmptyLogForcesFullResync() throws Exception {
+        UserRepository oldRepo = new UserRepository();
+        ReplicationLeader oldLeader = startLeader(oldRepo, 0);
+        int port = oldLeader.getPort();
+        for (int i = 1; i <= 3; i++) oldRepo.save(new User(i, "old" + i));
+
+        UserRepository replica = new UserRepository();
+        follower = follow(port, replica);
+        awaitTrue(() -> follower.getAppliedSeq() == 3);
+
+        // 새 리더는 빈 로그로 시작해 팔로워의 appliedSeq보다 많은 항목을 쌓는다
+        oldLeader.close();
+        UserRepository newRepo = new UserRepository();
+        ReplicationLeader newLeader = startLeader(newRepo, port);
+        for (int i = 10; i <= 14; i++) newRepo.save(new User(i, "new" + i));
+
+        awaitTrue(() -> newLeader.getLogId().equals(follower.getLogId()) && replica.findAll().size() == 5);
+        assertNull(replica.findById(1), "stale entries from the previous leader must be dropped");
+        for (int i = 10; i <= 14; i++) assertEquals("new" + i, replica.findById(i).getName());
+
+        newRepo.save(new User(15, "new15"));
+        awaitTrue(() -> replica.findById(15) != null);
+        assertEquals(6, follower.getAppliedSeq());
+    }
+
+    @Test
+    void followerBehindRetainedLogGetsSnapshot() throws Exception {
+        UserRepository repo = new UserRepository();
+        ReplicationLeader leader = startLeader(repo, 0, new ReplicationLog(5, Long.MAX_VALUE));
+        for (int i = 1; i <= 20; i++) repo.save(new User(i, "user" + i));
+        long oldest = leader.getReplicationLog().oldestSeq();
+        assertTrue(oldest > 2);
+
+        try (Socket socket = new Socket("127.0.0.1", leader.getPort())) {
+            BufferedReader in = handshake(socket, leader.getLogId() + " 2");
+            assertEquals("R " + leader.getLogId(), in.readLine());
+            assertEquals("B UserRepository 20", in.readLine());
+            int payloads = 0;
+            String line;
+            while ((line = in.readLine()).startsWith("P ")) payloads++;
+            assertEquals(20, payloads);
+            assertEquals("D 20", line);
+        }
+
+        // 보관 범위 안이면 스냅샷 없이 로그를 이어서 보낸다
+        try (Socket socket = new Socket("127.0.0.1", leader.getPort())) {
+            BufferedReader in = handshake(socket, leader.getLogId() + " " + oldest);
+            assertTrue(in.readLine().startsWith("E " + oldest + " UserRepository "));
+        }
+    }
+
+    @Test
+    void everyBatchCarriesLeaderHead() throws Exception {
+        UserRepository repo = new UserRepository();
+        ReplicationLeader leader = startLeader(repo, 0);
+        // 한 배치(256)보다 많이 쌓아 두면 첫 배치 뒤에도 리더에는 보낼 항목이 남아 있다
+        for (int i = 1; i <= 300; i++) repo.save(new User(i, "user" + i));
+
+        try (Socket socket = new Socket("127.0.0.1", leader.getPort())) {
+            BufferedReader in = handshake(socket, leader.getLogId() + " 1");
+            String line;
+            int entries = 0;
+            while ((line = in.readLine()).startsWith("E ")) entries++;
+            assertTrue(entries < 300, "expected the log to be split into batches");
+            assertEquals("H 300", line);
+        }
+    }
+
+    @Test
+    void malformedHandshakeIsRejected() throws Exception {
+        UserRepository repo = new UserRepository();
+        ReplicationLeader leader = startLeader(repo, 0);
+        repo.save(new User(1, "user1"));
+
+        for (String from : List.of(leader.getLogId() + " abc", leader.getLogId() + " -5")) {
+            try (Socket socket = new Socket("127.0.0.1", leader.getPort())) {
+                assertNull(handshake(socket, from).readLine(), "leader should close the connection for: " + from);
+            }
+        }
+
+        // 거절 후에도 정상 팔로워는 계속 받는다
+        UserRepository replica = new UserRepository();
+        follower = follow(leader.getPort(), replica);
+        awaitTrue(() -> replica.findById(1) != null);
+    }
+
+    private static BufferedReader handshake(Socket socket, String from) throws IOException {
+        Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        out.write("FROM " + from + "\n");
+        out.flush();
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private ReplicationLeader startLeader(UserRepository repo, int port) throws IOException {
+        return startLeader(repo, port, new ReplicationLog());
+    }
+
+    private ReplicationLeader startLeader(UserRepository repo, int port, ReplicationLog replicationLog) throws IOException {
+        repo.setWriteListener(payload -> replicationLog.append(repo.replicationName(), payload));
+        ReplicationLeader leader = new ReplicationLeader(replicationLog,
+                Map.of(repo.replicationName(), repo), "127.0.0.1", port);
+        leaders.add(leader);
+        return leader;
+    }
+
+    private static ReplicationFollower follow(int port, UserRepository replica) {
+        return new ReplicationFollower("127.0.0.1", port, Map.of(replica.replicationName(), replica));
+    }
+
+    static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met in time");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.winter.winterboot.warmup;
+
+import com.winter.winterboot.DispatcherHandler;
+import com.winter.winterboot.bulkhead.BulkheadExecutor;
+import com.winter.winterboot.core.ApplicationContext;
+import com.winter.winterboot.core.env.Environment;
+import com.winter.winterboot.warmup.fixture.WarmupFixtureController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WarmupRunnerTest {
+
+    private static final String BODY_KEY = "warmup.sample.WarmupFixtureController.create.body";
+    private static final List<String> KEYS = List.of("warmup.iterations", "warmup.include-writes", BODY_KEY);
+
+    @AfterEach
+    void clearProperties() {
+        KEYS.forEach(System::clearProperty);
+    }
+
+    @Test
+    void writeRouteWithoutSampleBodyIsNeverCalled() {
+        System.setProperty("warmup.iterations", "50");
+        System.setProperty("warmup.include-writes", "true");
+        WarmupFixtureController controller = warmUp();
+
+        assertEquals(0, controller.writes.get());
+        assertEquals(50, controller.reads.get());
+    }
+
+    @Test
+    void writeRouteUsesConfiguredSampleBody() {
+        System.setProperty("warmup.iterations", "50");
+        System.setProperty("warmup.include-writes", "true");
+        System.setProperty(BODY_KEY, "{\"id\":1,\"name\":\"warmup\"}");
+        WarmupFixtureController controller = warmUp();
+
+        assertTrue(controller.writes.get() > 0);
+        assertEquals(50, controller.reads.get() + controller.writes.get());
+    }
+
+    @Test
+    void warmupTrafficIsNotCountedInMetrics() {
+        System.setProperty("warmup.iterations", "50");
+        ApplicationContext ctx = new ApplicationContext("com.winter.winterboot.warmup.fixture");
+        Environment env = new Environment();
+        DispatcherHandler dispatcher = new DispatcherHandler(ctx, env);
+        new WarmupRunner(dispatcher, env).run();
+
+        assertEquals(50, ctx.getBean(WarmupFixtureController.class).reads.get());
+        assertEquals(0L, ((Number) dispatcher.getDeadlineTimer().stats().get("started")).longValue());
+        assertEquals(0L, dispatcher.getSingleFlight().getExecutions());
+        for (BulkheadExecutor bulkhead : dispatcher.getBulkheads()) {
+            assertEquals(0L, ((Number) bulkhead.stats().get("completed")).longValue());
+        }
+    }
+
+    private static WarmupFixtureController warmUp() {
+        ApplicationContext ctx = new ApplicationContext("com.winter.winterboot.warmup.fixture");
+        Environment env = new Environment();
+        new WarmupRunner(new DispatcherHandler(ctx, env), env).run();
+        return ctx.getBean(WarmupFixtureController.class);
+    }
+}
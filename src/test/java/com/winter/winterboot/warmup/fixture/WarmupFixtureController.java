@@ -0,0 +1,32 @@
+package com.winter.winterboot.warmup.fixture;
+
+import com.winter.winterboot.annotation.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RestController
+public class WarmupFixtureController {
+
+    public final AtomicInteger reads = new AtomicInteger();
+    public final AtomicInteger writes = new AtomicInteger();
+
+    @Bulkhead("items")
+    @Timeout(1000)
+    @Coalesce
+    @GetMapping("/items/{id}")
+    public String get(@PathVariable("id") int id) {
+        reads.incrementAndGet();
+        return "item" + id;
+    }
+
+    @PostMapping("/items")
+    public String create(@RequestBody Item item) {
+        writes.incrementAndGet();
+        return "ok";
+    }
+
+    public static class Item {
+        public int id;
+        public String name;
+    }
+}